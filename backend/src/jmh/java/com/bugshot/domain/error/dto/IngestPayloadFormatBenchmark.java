@@ -0,0 +1,97 @@
+package com.bugshot.domain.error.dto;
+
+import com.bugshot.global.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 요청 본문 형식별 파싱 비용 / 크기 비교 (JSON, CBOR, Smile)
+ * <p>
+ * 스택 트레이스가 큰 이벤트 하나를 각 형식으로 인코딩해 두고, 실제 메시지 컨버터와 같은 방식
+ * (JacksonConfig의 ObjectMapper를 copyWith로 CBOR/Smile 팩토리에 연결)으로 IngestRequest를 역직렬화합니다.
+ * 형식별 본문 크기는 Setup에서 한 번 출력합니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=IngestPayloadFormatBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IngestPayloadFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String format;
+
+    @Param({"20", "200"})
+    private int frames;
+
+    private ObjectMapper mapper;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper json = new JacksonConfig().objectMapper(10 * 1024 * 1024);
+        mapper = switch (format) {
+            case "CBOR" -> json.copyWith(new CBORFactory());
+            case "SMILE" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        payload = mapper.writeValueAsBytes(event(frames));
+        System.out.printf("%n[%s, frames=%d] payload bytes: %d%n", format, frames, payload.length);
+    }
+
+    @Benchmark
+    public IngestRequest parse() throws IOException {
+        return mapper.readValue(payload, IngestRequest.class);
+    }
+
+    private static IngestRequest event(int frames) {
+        StringBuilder stackTrace = new StringBuilder("TypeError: Cannot read properties of undefined (reading 'id')");
+        for (int i = 0; i < frames; i++) {
+            stackTrace.append("\n    at handler").append(i)
+                    .append(" (https://app.example.com/static/js/main.3f9a1c.chunk.js:")
+                    .append(1000 + i).append(':').append(17 + i % 40).append(')');
+        }
+
+        return IngestRequest.builder()
+                .apiKey("bs_0123456789abcdef0123456789abcdef")
+                .eventId("7d3c2a1e-9f4b-4c8e-a6d5-1b2c3d4e5f60")
+                .error(IngestRequest.ErrorInfo.builder()
+                        .type("TypeError")
+                        .message("Cannot read properties of undefined (reading 'id')")
+                        .stackTrace(stackTrace.toString())
+                        .file("https://app.example.com/static/js/main.3f9a1c.chunk.js")
+                        .line(1000)
+                        .column(17)
+                        .method("handler0")
+                        .build())
+                .context(IngestRequest.ContextInfo.builder()
+                        .url("https://app.example.com/checkout/payment")
+                        .httpMethod("POST")
+                        .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                                + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                        .sessionId("session-42")
+                        .userId("user-42")
+                        .timestamp("2026-10-16T12:00:00Z")
+                        .headers(Map.of("content-type", "application/json", "x-request-id", "abc123"))
+                        .customData(Map.of("release", "1.4.2", "feature", "checkout"))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bugshot.domain.error.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 그룹 해시 계산 비용 비교
+ * <p>
+ * 기존 Error.calculateErrorHash (호출마다 MessageDigest.getInstance + 문자열 연결 + 64자 hex 인코딩)와
+ * ErrorFingerprint.of (스레드별 digest 재사용, 128bit long 두 개)를 같은 입력으로 비교합니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=ErrorFingerprintBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorFingerprintBenchmark {
+
+    private final String errorType = "TypeError";
+    private final String filePath = "https://app.example.com/static/js/main.3f9a1c.chunk.js";
+    private final Integer lineNumber = 1482;
+
+    @Benchmark
+    public String legacyErrorHash() {
+        return calculateErrorHash(errorType, filePath, lineNumber);
+    }
+
+    @Benchmark
+    public ErrorFingerprint fingerprint() {
+        return ErrorFingerprint.of(errorType, filePath, lineNumber);
+    }
+
+    /**
+     * 기존 Error.calculateErrorHash (61c6022 이전 구현 그대로)
+     */
+    private static String calculateErrorHash(String errorType, String filePath, Integer lineNumber) {
+        try {
+            String input = errorType + "|" +
+                          (filePath != null ? filePath : "") + "|" +
+                          (lineNumber != null ? lineNumber.toString() : "");
+
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(input.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hexString = new StringBuilder();
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) hexString.append('0');
+                hexString.append(hex);
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not found", e);
+        }
+    }
+}
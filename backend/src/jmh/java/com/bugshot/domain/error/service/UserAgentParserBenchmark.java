@@ -0,0 +1,63 @@
+package com.bugshot.domain.error.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User-Agent 파싱 비용: 캐시 적중 vs 미적중
+ * <p>
+ * 실제 트래픽처럼 몇 종류의 UA를 돌려가며 parse()(캐시 적중)와 parseUncached()(정규식 전체 실행)를 비교합니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=UserAgentParserBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserAgentParserBenchmark {
+
+    private static final List<String> USER_AGENTS = List.of(
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 (KHTML, like Gecko) SamsungBrowser/23.0 Chrome/115.0.0.0 Mobile Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Safari/605.1.15",
+            "Mozilla/5.0 (X11; Linux x86_64; rv:121.0) Gecko/20100101 Firefox/121.0",
+            "okhttp/4.12.0"
+    );
+
+    private UserAgentParser parser;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new UserAgentParser(new SimpleMeterRegistry(), true, 10_000);
+        USER_AGENTS.forEach(parser::parse);
+    }
+
+    @Benchmark
+    public UserAgentParser.UserAgentInfo cacheHit() {
+        return parser.parse(nextUserAgent());
+    }
+
+    @Benchmark
+    public UserAgentParser.UserAgentInfo cacheMiss() {
+        return UserAgentParser.parseUncached(nextUserAgent());
+    }
+
+    private String nextUserAgent() {
+        next = (next + 1) % USER_AGENTS.size();
+        return USER_AGENTS.get(next);
+    }
+}
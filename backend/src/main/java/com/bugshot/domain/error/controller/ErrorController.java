@@ -1,9 +1,12 @@
 package com.bugshot.domain.error.controller;
 
+import com.bugshot.domain.error.dto.ErrorOccurrenceResponse;
 import com.bugshot.domain.error.dto.ErrorResponse;
+import com.bugshot.domain.error.dto.PriorityRecalculationResponse;
 import com.bugshot.domain.error.entity.Error;
 import com.bugshot.domain.error.repository.ErrorRepository;
 import com.bugshot.domain.error.service.ErrorService;
+import com.bugshot.domain.error.service.PriorityRecalculationService;
 import com.bugshot.domain.project.entity.Project;
 import com.bugshot.domain.project.repository.ProjectRepository;
 import com.bugshot.global.dto.ApiResponse;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +31,7 @@ import java.util.List;
 public class ErrorController {
 
     private final ErrorService errorService;
+    private final PriorityRecalculationService priorityRecalculationService;
     private final ErrorRepository errorRepository;
     private final ProjectRepository projectRepository;
 
@@ -93,8 +98,21 @@ public class ErrorController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ErrorResponse>> getError(@PathVariable String id) {
-        Error error = errorService.getError(id);
-        return ResponseEntity.ok(ApiResponse.success(ErrorResponse.from(error)));
+        return ResponseEntity.ok(ApiResponse.success(errorService.getErrorDetail(id)));
+    }
+
+    /**
+     * 에러 발생 목록 조회 (최신순, 샘플링 비율 포함)
+     * GET /api/errors/{id}/occurrences?page=0&size=20
+     */
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<PageResponse<ErrorOccurrenceResponse>> getOccurrences(
+        @PathVariable String id,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "occurredAt"));
+        return ResponseEntity.ok(PageResponse.success(errorService.getOccurrences(id, pageable)));
     }
 
     /**
@@ -131,22 +149,47 @@ public class ErrorController {
     }
 
     /**
-     * 모든 에러 우선순위 일괄 재계산
+     * 모든 에러 우선순위 일괄 재계산 시작 (백그라운드 작업)
      * POST /api/errors/recalculate-priorities
+     * 취소/실패한 작업이 있으면 이어서 실행, 실행 중인 작업이 있으면 그 작업을 반환
      */
     @PostMapping("/recalculate-priorities")
-    public ResponseEntity<ApiResponse<RecalculateResponse>> recalculatePriorities(
+    public ResponseEntity<ApiResponse<PriorityRecalculationResponse>> recalculatePriorities(
             Authentication authentication
     ) {
         String userId = authentication.getName();
         log.info("Recalculating priorities for user: {}", userId);
 
-        int updatedCount = errorService.recalculateAllPriorities(userId);
+        PriorityRecalculationResponse response =
+                PriorityRecalculationResponse.from(priorityRecalculationService.start(userId));
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(
-                new RecalculateResponse(updatedCount, "우선순위가 재계산되었습니다.")
-        ));
+    /**
+     * 우선순위 재계산 작업 상태 조회
+     * GET /api/errors/recalculate-priorities/{jobId}
+     */
+    @GetMapping("/recalculate-priorities/{jobId}")
+    public ResponseEntity<ApiResponse<PriorityRecalculationResponse>> getRecalculation(
+            Authentication authentication,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(PriorityRecalculationResponse.from(
+                priorityRecalculationService.getJob(authentication.getName(), jobId))));
     }
 
-    public record RecalculateResponse(int updatedCount, String message) {}
+    /**
+     * 우선순위 재계산 작업 취소 (진행 중인 chunk 커밋 후 중단)
+     * DELETE /api/errors/recalculate-priorities/{jobId}
+     */
+    @DeleteMapping("/recalculate-priorities/{jobId}")
+    public ResponseEntity<ApiResponse<PriorityRecalculationResponse>> cancelRecalculation(
+            Authentication authentication,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(PriorityRecalculationResponse.from(
+                priorityRecalculationService.cancel(authentication.getName(), jobId))));
+    }
 }
@@ -1,18 +1,34 @@
 package com.bugshot.domain.error.controller;
 
+import com.bugshot.domain.error.dto.BatchIngestResponse;
 import com.bugshot.domain.error.dto.IngestRequest;
 import com.bugshot.domain.error.dto.IngestResponse;
 import com.bugshot.domain.error.service.ErrorService;
+import com.bugshot.domain.error.service.IngestBuffer;
+import com.bugshot.domain.project.dto.ProjectSnapshot;
+import com.bugshot.domain.project.service.ProjectApiKeyCache;
+import com.bugshot.global.concurrency.IngestConcurrencyLimiter;
 import com.bugshot.global.dto.ApiResponse;
+import com.bugshot.global.exception.InvalidApiKeyException;
+import com.bugshot.global.ratelimit.RateLimitDecision;
 import com.bugshot.global.ratelimit.RateLimitService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/ingest")
 @RequiredArgsConstructor
@@ -20,7 +36,14 @@ import org.springframework.web.bind.annotation.*;
 public class IngestController {
 
     private final ErrorService errorService;
+    private final IngestBuffer ingestBuffer;
+    private final ProjectApiKeyCache projectApiKeyCache;
     private final RateLimitService rateLimitService;
+    private final IngestConcurrencyLimiter ingestConcurrencyLimiter;
+    private final Validator validator;
+
+    @Value("${app.ingest.batch.max-size:500}")
+    private int maxBatchSize;
 
     /**
      * 에러 수집 API - SDK에서 호출
@@ -30,25 +53,112 @@ public class IngestController {
     @PostMapping
     public ResponseEntity<ApiResponse<IngestResponse>> ingestError(
             @Valid @RequestBody IngestRequest request,
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
 
-        // Rate Limiting: API 키 기반 체크
-        if (!rateLimitService.allowRequest(request.getApiKey())) {
-            log.warn("Rate limit exceeded for API key: {}",
-                    request.getApiKey().substring(0, Math.min(8, request.getApiKey().length())) + "...");
+        // Rate Limiting: API 키 + IP 주소 한도를 Redis 왕복 한 번으로 체크
+        RateLimitDecision rateLimit = rateLimitService.checkIngest(
+                Map.of(request.getApiKey(), 1), getClientIpAddress(httpRequest));
+        rateLimit.applyTo(httpResponse);
+        if (!rateLimit.allowed()) {
             return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
                     .body(ApiResponse.error("Rate limit exceeded. Please try again later."));
         }
 
-        // Rate Limiting: IP 주소 기반 체크 (추가 보안)
-        String ipAddress = getClientIpAddress(httpRequest);
-        if (!rateLimitService.allowRequestByIp(ipAddress)) {
-            log.warn("Rate limit exceeded for IP: {}", ipAddress);
+        // 재전송된 이벤트 (같은 eventId): DB를 건드리지 않고 처음 결과 반환
+        Optional<IngestResponse> duplicate = errorService.findDuplicate(request);
+        if (duplicate.isPresent()) {
+            return ResponseEntity.ok(ApiResponse.success(duplicate.get()));
+        }
+
+        // Write-behind 모드: 버퍼에 넣고 즉시 202 반환 (가득 차면 429로 backpressure)
+        if (ingestBuffer.isEnabled()) {
+            // 잘못된 API 키는 202로 받은 뒤 버리지 않고 동기 모드와 같이 바로 거부 (로컬 캐시 조회)
+            projectApiKeyCache.resolve(request.getApiKey());
+            if (!ingestBuffer.offer(request)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body(ApiResponse.error("Ingest queue is full. Please try again later."));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(IngestResponse.accepted()));
+        }
+
+        // 동시 수집 수가 한도에 도달하면 503 + Retry-After (대시보드용 DB 커넥션 확보)
+        IngestResponse response = ingestConcurrencyLimiter.execute(() -> errorService.ingestError(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 배치 에러 수집 API - SDK가 모아둔 이벤트를 한 번에 전송
+     *
+     * POST /api/ingest/batch
+     * <p>
+     * Rate Limit은 API 키별로 그 키의 이벤트 수, IP는 배치 이벤트 수만큼 소모합니다 (최대 크기는 app.ingest.batch.max-size).
+     * 검증에 실패한 이벤트는 배치 전체를 거부하지 않고 개별적으로 제외합니다.
+     * </p>
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchIngestResponse>> ingestBatch(
+            @RequestBody List<IngestRequest> requests,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+
+        if (requests == null || requests.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Batch must contain at least one error"));
+        }
+        if (requests.size() > maxBatchSize) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Batch size exceeds limit of " + maxBatchSize));
+        }
+
+        // Bean Validation을 이벤트 단위로 적용
+        List<IngestRequest> validRequests = requests.stream()
+                .filter(request -> request != null && validator.validate(request).isEmpty())
+                .toList();
+        int invalidCount = requests.size() - validRequests.size();
+
+        // Rate Limiting: API 키별 이벤트 수 + IP의 배치 이벤트 수를 Redis 왕복 한 번으로 체크
+        Map<String, Integer> eventsByApiKey = new LinkedHashMap<>();
+        validRequests.forEach(request -> eventsByApiKey.merge(request.getApiKey(), 1, Integer::sum));
+        Set<String> apiKeys = eventsByApiKey.keySet();
+        RateLimitDecision rateLimit = rateLimitService.checkIngest(eventsByApiKey, getClientIpAddress(httpRequest));
+        rateLimit.applyTo(httpResponse);
+        if (!rateLimit.allowed()) {
             return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
                     .body(ApiResponse.error("Rate limit exceeded. Please try again later."));
         }
 
-        IngestResponse response = errorService.ingestError(request);
+        if (validRequests.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("No valid errors in batch", BatchIngestResponse.of(0, invalidCount, List.of())));
+        }
+
+        // 모든 이벤트의 API 키가 잘못됐으면 동기/버퍼 모드 모두 요청 거부 (로컬 캐시 조회)
+        Map<String, ProjectSnapshot> projects = projectApiKeyCache.resolveAll(apiKeys);
+        List<IngestRequest> knownKeyRequests = validRequests.stream()
+                .filter(request -> projects.containsKey(request.getApiKey()))
+                .toList();
+        if (knownKeyRequests.isEmpty()) {
+            throw new InvalidApiKeyException();
+        }
+
+        if (ingestBuffer.isEnabled()) {
+            // 잘못된 API 키 이벤트는 버퍼에 넣지 않고 rejected로 응답
+            int rejectedCount = invalidCount + validRequests.size() - knownKeyRequests.size();
+
+            if (!ingestBuffer.offerAll(knownKeyRequests)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body(ApiResponse.error("Ingest queue is full. Please try again later."));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(BatchIngestResponse.accepted(knownKeyRequests.size(), rejectedCount)));
+        }
+
+        BatchIngestResponse result = ingestConcurrencyLimiter.execute(() -> errorService.ingestBatch(validRequests));
+        BatchIngestResponse response = BatchIngestResponse.of(
+                result.getAccepted(), result.getRejected() + invalidCount, result.getDuplicates(), result.getErrorIds());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
     }
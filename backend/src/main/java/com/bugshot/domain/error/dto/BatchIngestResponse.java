@@ -0,0 +1,67 @@
+package com.bugshot.domain.error.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchIngestResponse {
+
+    private boolean success;
+
+    /**
+     * 저장된 이벤트 수
+     */
+    private int accepted;
+
+    /**
+     * 검증 실패 또는 잘못된 API 키로 버려진 이벤트 수
+     */
+    private int rejected;
+
+    /**
+     * 이미 수집된 eventId라서 저장하지 않은 이벤트 수
+     */
+    private int duplicates;
+
+    /**
+     * 이벤트가 기록된 에러 그룹 ID 목록 (중복 제거)
+     */
+    private List<String> errorIds;
+
+    private String message;
+
+    public static BatchIngestResponse of(int accepted, int rejected, List<String> errorIds) {
+        return of(accepted, rejected, 0, errorIds);
+    }
+
+    public static BatchIngestResponse of(int accepted, int rejected, int duplicates, List<String> errorIds) {
+        return BatchIngestResponse.builder()
+            .success(accepted + duplicates > 0)
+            .accepted(accepted)
+            .rejected(rejected)
+            .duplicates(duplicates)
+            .errorIds(errorIds)
+            .message(accepted + " errors recorded, " + rejected + " rejected, " + duplicates + " duplicates")
+            .build();
+    }
+
+    /**
+     * Write-behind 모드 응답 - 저장 전이므로 errorIds 없음
+     */
+    public static BatchIngestResponse accepted(int accepted, int rejected) {
+        return BatchIngestResponse.builder()
+            .success(accepted > 0)
+            .accepted(accepted)
+            .rejected(rejected)
+            .errorIds(List.of())
+            .message(accepted + " errors accepted for processing, " + rejected + " rejected")
+            .build();
+    }
+}
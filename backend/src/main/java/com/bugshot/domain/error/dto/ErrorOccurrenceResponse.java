@@ -0,0 +1,60 @@
+package com.bugshot.domain.error.dto;
+
+import com.bugshot.domain.error.entity.ErrorOccurrence;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에러 발생 응답
+ * <p>
+ * 급증 보호 중에는 발생 일부만 저장되므로 각 행이 대표하는 발생 수를 함께 내려줍니다.
+ * IP, 요청 헤더/파라미터는 개인정보가 포함될 수 있어 제외합니다.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorOccurrenceResponse {
+
+    private String id;
+    private String errorId;
+    private String url;
+    private String httpMethod;
+    private String userAgent;
+    private String browser;
+    private String os;
+    private String device;
+    private String userIdentifier;
+    private String sessionId;
+    private String sessionReplayId;
+    // 저장 시 샘플링 비율 (1.0 = 전수 저장, 0.1 = 이 행이 약 10건을 대표)
+    private double sampleRate;
+    // 이 행이 대표하는 발생 수 추정치 (1 / sampleRate)
+    private long representedCount;
+    private LocalDateTime occurredAt;
+
+    public static ErrorOccurrenceResponse from(ErrorOccurrence occurrence) {
+        double sampleRate = occurrence.getSampleRate() != null ? occurrence.getSampleRate() : 1.0;
+        return ErrorOccurrenceResponse.builder()
+            .id(occurrence.getId())
+            .errorId(occurrence.getError().getId())
+            .url(occurrence.getUrl())
+            .httpMethod(occurrence.getHttpMethod())
+            .userAgent(occurrence.getUserAgent())
+            .browser(occurrence.getBrowser())
+            .os(occurrence.getOs())
+            .device(occurrence.getDevice())
+            .userIdentifier(occurrence.getUserIdentifier())
+            .sessionId(occurrence.getSessionId())
+            .sessionReplayId(occurrence.getSessionReplayId())
+            .sampleRate(sampleRate)
+            .representedCount(Math.round(1.0 / sampleRate))
+            .occurredAt(occurrence.getOccurredAt())
+            .build();
+    }
+}
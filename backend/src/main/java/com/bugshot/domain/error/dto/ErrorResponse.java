@@ -33,6 +33,11 @@ public class ErrorResponse {
     private LocalDateTime firstSeenAt;
     private LocalDateTime lastSeenAt;
 
+    // 상세 조회에서만 채움 - 급증 구간에는 발생 일부만 저장되므로 occurrenceCount와 다를 수 있음
+    private Long storedOccurrenceCount;
+    // 저장된 발생 중 샘플링으로 저장된 수 (0보다 크면 발생 목록은 sampleRate로 가중해서 해석)
+    private Long sampledOccurrenceCount;
+
     public static ErrorResponse from(Error error) {
         return ErrorResponse.builder()
             .id(error.getId())
@@ -54,4 +59,14 @@ public class ErrorResponse {
             .lastSeenAt(error.getLastSeenAt())
             .build();
     }
+
+    /**
+     * 에러 상세 응답 (저장된 발생 수와 샘플링된 발생 수 포함)
+     */
+    public static ErrorResponse from(Error error, long storedOccurrenceCount, long sampledOccurrenceCount) {
+        ErrorResponse response = from(error);
+        response.setStoredOccurrenceCount(storedOccurrenceCount);
+        response.setSampledOccurrenceCount(sampledOccurrenceCount);
+        return response;
+    }
 }
@@ -1,25 +1,40 @@
 package com.bugshot.domain.error.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
 import java.util.Map;
 
+/**
+ * 에러 수집 요청
+ * <p>
+ * 요청 본문은 {@link IngestRequestDeserializer}가 스트리밍으로 읽습니다.
+ * (컨텍스트 맵 크기 제한, 리플레이 이벤트는 원본 JSON 바이트로 보관)
+ * </p>
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonDeserialize(using = IngestRequestDeserializer.class)
 public class IngestRequest {
 
     @NotBlank(message = "API key is required")
     private String apiKey;
 
+    /**
+     * 클라이언트가 이벤트마다 생성하는 ID (선택) - 재전송 시 같은 값을 보내면 중복 수집되지 않음
+     */
+    @Size(max = 64, message = "Event ID must be at most 64 characters")
+    private String eventId;
+
     @NotNull(message = "Error information is required")
     @Valid
     private ErrorInfo error;
@@ -110,7 +125,15 @@ public class IngestRequest {
     @AllArgsConstructor
     @Builder
     public static class SessionReplayData {
-        private List<Map<String, Object>> events;
+        /**
+         * rrweb 이벤트 배열 원본 JSON (UTF-8) - 객체 트리로 변환하지 않음
+         */
+        private byte[] events;
+        private int eventsCount;
+        /**
+         * 최대 크기(app.session-replay.max-file-size)를 넘어 앞부분만 남기거나(events 있음) 버렸는지(events null)
+         */
+        private boolean truncated;
         private Integer durationMs;
         private String sessionId;
     }
@@ -0,0 +1,372 @@
+package com.bugshot.domain.error.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수집 요청 스트리밍 역직렬화
+ * <p>
+ * 기본 바인딩은 headers/params/customData와 세션 리플레이 events 배열을
+ * Map/List 객체 트리로 만들기 때문에, 큰 rrweb 리플레이 하나가 검증 전에 수 MB의 박싱 객체를 만듭니다.
+ * 이 역직렬화기는 JsonParser 토큰을 직접 읽어 다음과 같이 처리합니다.
+ * </p>
+ *
+ * <pre>
+ * - error/context 핵심 필드는 문자열/숫자로 바로 읽음 (긴 문자열은 잘라서 보관)
+ * - headers/params/customData: 항목 수, 문자열 길이, 중첩 깊이 제한 (초과분은 버림)
+ * - sessionReplay.events: 객체 트리 없이 원본 JSON 바이트로 복사 + 이벤트 개수만 집계
+ *   복사 중 app.session-replay.max-file-size(ObjectMapper 공유 속성 MAX_REPLAY_BYTES_ATTRIBUTE)를 넘으면
+ *   나머지 이벤트는 건너뛰고 앞부분만 보관 (truncated), 첫 이벤트부터 넘으면 리플레이를 버림
+ * - 알 수 없는 필드는 건너뜀
+ * - 토큰 단위로만 읽으므로 CBOR/Smile 본문에도 그대로 동작 (events는 JSON 바이트로 변환해 보관)
+ * </pre>
+ */
+@Slf4j
+public class IngestRequestDeserializer extends StdDeserializer<IngestRequest> {
+
+    /**
+     * 리플레이 events 최대 바이트 수를 담는 DeserializationContext 속성 키
+     */
+    public static final String MAX_REPLAY_BYTES_ATTRIBUTE = IngestRequestDeserializer.class.getName() + ".maxReplayBytes";
+    static final long DEFAULT_MAX_REPLAY_BYTES = 10L * 1024 * 1024;
+
+    static final int MAX_MAP_ENTRIES = 50;
+    static final int MAX_ARRAY_ITEMS = 50;
+    static final int MAX_DEPTH = 4;
+    static final int MAX_VALUE_LENGTH = 2_000;
+    static final int MAX_FIELD_LENGTH = 2_000;
+    static final int MAX_MESSAGE_LENGTH = 10_000;
+    static final int MAX_STACK_TRACE_LENGTH = 32_000;
+
+    private static final String TRUNCATED = "[truncated]";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public IngestRequestDeserializer() {
+        super(IngestRequest.class);
+    }
+
+    @Override
+    public IngestRequest deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expectStartObject(p, ctxt);
+        IngestRequest request = new IngestRequest();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken token = p.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "apiKey" -> request.setApiKey(readString(p, MAX_FIELD_LENGTH));
+                case "eventId" -> request.setEventId(readString(p, MAX_FIELD_LENGTH));
+                case "error" -> request.setError(readErrorInfo(p, ctxt));
+                case "context" -> request.setContext(readContextInfo(p, ctxt));
+                case "sessionReplay" -> request.setSessionReplay(readSessionReplay(p, ctxt));
+                default -> p.skipChildren();
+            }
+        }
+        return request;
+    }
+
+    private IngestRequest.ErrorInfo readErrorInfo(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expectStartObject(p, ctxt);
+        IngestRequest.ErrorInfo error = new IngestRequest.ErrorInfo();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            if (p.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "type" -> error.setType(readString(p, MAX_FIELD_LENGTH));
+                case "message" -> error.setMessage(readString(p, MAX_MESSAGE_LENGTH));
+                case "stackTrace" -> error.setStackTrace(readString(p, MAX_STACK_TRACE_LENGTH));
+                case "file" -> error.setFile(readString(p, MAX_FIELD_LENGTH));
+                case "line" -> error.setLine(readInteger(p));
+                case "column" -> error.setColumn(readInteger(p));
+                case "method" -> error.setMethod(readString(p, MAX_FIELD_LENGTH));
+                default -> p.skipChildren();
+            }
+        }
+        return error;
+    }
+
+    private IngestRequest.ContextInfo readContextInfo(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expectStartObject(p, ctxt);
+        IngestRequest.ContextInfo context = new IngestRequest.ContextInfo();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            if (p.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "url" -> context.setUrl(readString(p, MAX_FIELD_LENGTH));
+                case "httpMethod" -> context.setHttpMethod(readString(p, MAX_FIELD_LENGTH));
+                case "userAgent" -> context.setUserAgent(readString(p, MAX_FIELD_LENGTH));
+                case "ipAddress" -> context.setIpAddress(readString(p, MAX_FIELD_LENGTH));
+                case "sessionId" -> context.setSessionId(readString(p, MAX_FIELD_LENGTH));
+                case "userId" -> context.setUserId(readString(p, MAX_FIELD_LENGTH));
+                case "timestamp" -> context.setTimestamp(readString(p, MAX_FIELD_LENGTH));
+                case "browser" -> context.setBrowser(readString(p, MAX_FIELD_LENGTH));
+                case "os" -> context.setOs(readString(p, MAX_FIELD_LENGTH));
+                case "device" -> context.setDevice(readString(p, MAX_FIELD_LENGTH));
+                case "browserInfo" -> context.setBrowserInfo(ctxt.readValue(p, IngestRequest.BrowserInfo.class));
+                case "deviceInfo" -> context.setDeviceInfo(ctxt.readValue(p, IngestRequest.DeviceInfo.class));
+                case "headers" -> context.setHeaders(readBoundedMap(p, 1));
+                case "params" -> context.setParams(readBoundedMap(p, 1));
+                case "customData" -> context.setCustomData(readBoundedMap(p, 1));
+                default -> p.skipChildren();
+            }
+        }
+        return context;
+    }
+
+    private IngestRequest.SessionReplayData readSessionReplay(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expectStartObject(p, ctxt);
+        IngestRequest.SessionReplayData replay = new IngestRequest.SessionReplayData();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken token = p.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "events" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        copyEvents(p, replay, maxReplayBytes(ctxt));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+                case "durationMs" -> replay.setDurationMs(readInteger(p));
+                case "sessionId" -> replay.setSessionId(readString(p, MAX_FIELD_LENGTH));
+                default -> p.skipChildren();
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * events 배열을 객체로 만들지 않고 원본 JSON 바이트로 복사
+     * <p>
+     * 이벤트 하나를 복사할 때마다 출력 크기를 확인합니다. maxBytes를 넘으면 그 이벤트는 버리고
+     * 배열의 나머지는 복사하지 않고 건너뛰어, 큰 리플레이도 maxBytes 이상 메모리에 올리지 않습니다.
+     * </p>
+     */
+    private void copyEvents(JsonParser p, IngestRequest.SessionReplayData replay, long maxBytes) throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(maxBytes);
+        JsonStreamContext arrayContext = p.getParsingContext();
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out);
+        int count = 0;
+        int committed;
+        boolean truncated = false;
+
+        generator.writeStartArray();
+        generator.flush();
+        committed = out.size();
+
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (truncated) {
+                p.skipChildren();
+                continue;
+            }
+            try {
+                generator.copyCurrentStructure(p);
+                generator.flush();
+                committed = out.size();
+                count++;
+            } catch (LimitExceededException e) {
+                truncated = true;
+                // 복사 도중 멈춘 이벤트의 남은 토큰 건너뛰기
+                while (p.getParsingContext() != arrayContext) {
+                    p.nextToken();
+                }
+            }
+        }
+
+        if (!truncated) {
+            generator.writeEndArray();
+            generator.close();
+            replay.setEvents(out.toByteArray());
+            replay.setEventsCount(count);
+            return;
+        }
+
+        // 한도를 넘은 생성기는 닫지 않음 (닫으면 남은 버퍼를 다시 쓰려고 함)
+        if (count == 0) {
+            log.warn("Session replay dropped: first event exceeds {} bytes", maxBytes);
+            replay.setTruncated(true);
+            return;
+        }
+        byte[] events = Arrays.copyOf(out.buffer(), committed + 1);
+        events[committed] = ']';
+        log.warn("Session replay truncated: kept {} events ({} bytes), limit {} bytes", count, committed + 1, maxBytes);
+        replay.setEvents(events);
+        replay.setEventsCount(count);
+        replay.setTruncated(true);
+    }
+
+    private long maxReplayBytes(DeserializationContext ctxt) {
+        Object value = ctxt.getAttribute(MAX_REPLAY_BYTES_ATTRIBUTE);
+        return value instanceof Number number ? number.longValue() : DEFAULT_MAX_REPLAY_BYTES;
+    }
+
+    /**
+     * 항목 수/깊이/문자열 길이를 제한하며 객체 읽기
+     */
+    private Map<String, Object> readBoundedMap(JsonParser p, int depth) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String key = p.currentName();
+            p.nextToken();
+            if (map.size() >= MAX_MAP_ENTRIES) {
+                p.skipChildren();
+                continue;
+            }
+            map.put(truncate(key, MAX_FIELD_LENGTH), readBoundedValue(p, depth));
+        }
+        return map;
+    }
+
+    private List<Object> readBoundedList(JsonParser p, int depth) throws IOException {
+        List<Object> list = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (list.size() >= MAX_ARRAY_ITEMS) {
+                p.skipChildren();
+                continue;
+            }
+            list.add(readBoundedValue(p, depth));
+        }
+        return list;
+    }
+
+    private Object readBoundedValue(JsonParser p, int depth) throws IOException {
+        return switch (p.currentToken()) {
+            case START_OBJECT -> {
+                if (depth >= MAX_DEPTH) {
+                    p.skipChildren();
+                    yield TRUNCATED;
+                }
+                yield readBoundedMap(p, depth + 1);
+            }
+            case START_ARRAY -> {
+                if (depth >= MAX_DEPTH) {
+                    p.skipChildren();
+                    yield TRUNCATED;
+                }
+                yield readBoundedList(p, depth + 1);
+            }
+            case VALUE_STRING -> readString(p, MAX_VALUE_LENGTH);
+            case VALUE_NUMBER_INT -> p.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> p.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    /**
+     * 문자열 읽기 - 제한보다 길면 앞부분만 String으로 만듦
+     */
+    private String readString(JsonParser p, int maxLength) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            int length = p.getTextLength();
+            return new String(p.getTextCharacters(), p.getTextOffset(), Math.min(length, maxLength));
+        }
+        if (token != null && token.isScalarValue()) {
+            return truncate(p.getText(), maxLength);
+        }
+        p.skipChildren();
+        return null;
+    }
+
+    private Integer readInteger(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getValueAsInt();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.valueOf(p.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        p.skipChildren();
+        return null;
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private void expectStartObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            ctxt.reportWrongTokenException(this, JsonToken.START_OBJECT, "Expected JSON object");
+        }
+    }
+
+    /**
+     * 최대 크기를 넘겨 쓰면 LimitExceededException을 던지는 버퍼 (닫는 괄호 1바이트 여유)
+     */
+    private static final class BoundedOutputStream extends ByteArrayOutputStream {
+
+        private final long maxBytes;
+
+        private BoundedOutputStream(long maxBytes) {
+            super(8 * 1024);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            super.write(b, off, len);
+        }
+
+        private void ensureCapacity(int len) {
+            if ((long) count + len + 1 > maxBytes) {
+                throw new LimitExceededException();
+            }
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+
+    private static final class LimitExceededException extends RuntimeException {
+
+        private LimitExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
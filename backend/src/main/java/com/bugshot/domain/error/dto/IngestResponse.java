@@ -15,16 +15,51 @@ public class IngestResponse {
 
     private String errorId;
 
+    /**
+     * 세션 리플레이를 별도 업로드할 때 연결할 occurrence ID
+     * (급증 보호 샘플링으로 저장되지 않았으면 null - 발생 횟수에는 집계됨)
+     */
+    private String occurrenceId;
+
+    /**
+     * 이미 수집된 eventId의 재전송이라 저장하지 않았는지 여부
+     */
+    private boolean duplicate;
+
     private String message;
 
-    public static IngestResponse success(String errorId) {
+    public static IngestResponse success(String errorId, String occurrenceId) {
         return IngestResponse.builder()
             .success(true)
             .errorId(errorId)
+            .occurrenceId(occurrenceId)
             .message("Error recorded successfully")
             .build();
     }
 
+    /**
+     * 중복 이벤트 응답 - 처음 수집했을 때의 결과를 그대로 반환
+     */
+    public static IngestResponse duplicate(String errorId, String occurrenceId) {
+        return IngestResponse.builder()
+            .success(true)
+            .errorId(errorId)
+            .occurrenceId(occurrenceId)
+            .duplicate(true)
+            .message("Duplicate event ignored")
+            .build();
+    }
+
+    /**
+     * Write-behind 모드 응답 - 저장 전이므로 errorId 없음
+     */
+    public static IngestResponse accepted() {
+        return IngestResponse.builder()
+            .success(true)
+            .message("Error accepted for processing")
+            .build();
+    }
+
     public static IngestResponse error(String message) {
         return IngestResponse.builder()
             .success(false)
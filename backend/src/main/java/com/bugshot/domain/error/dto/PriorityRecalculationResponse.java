@@ -0,0 +1,57 @@
+package com.bugshot.domain.error.dto;
+
+import com.bugshot.domain.error.service.PriorityRecalculationJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriorityRecalculationResponse {
+
+    private String jobId;
+
+    /**
+     * RUNNING / COMPLETED / CANCELLED / FAILED
+     */
+    private String status;
+
+    /**
+     * 지금까지 재계산된 에러 수
+     */
+    private int updatedCount;
+
+    private int totalProjects;
+
+    private int completedProjects;
+
+    /**
+     * 취소 요청 후 진행 중인 chunk가 끝나기를 기다리는 중인지 여부
+     */
+    private boolean cancelRequested;
+
+    private String failureMessage;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static PriorityRecalculationResponse from(PriorityRecalculationJob job) {
+        return PriorityRecalculationResponse.builder()
+            .jobId(job.getId())
+            .status(job.getStatus().name())
+            .updatedCount(job.getProcessedErrors().get())
+            .totalProjects(job.totalProjects())
+            .completedProjects(job.completedProjects())
+            .cancelRequested(job.isCancelRequested())
+            .failureMessage(job.getFailureMessage())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+}
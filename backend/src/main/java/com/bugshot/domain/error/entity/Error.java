@@ -1,26 +1,29 @@
 package com.bugshot.domain.error.entity;
 
 import com.bugshot.domain.common.BaseEntity;
+import com.bugshot.domain.priority.service.PriorityWeights;
 import com.bugshot.domain.project.entity.Project;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
+// (project_id, error_fingerprint) 유니크 키 uk_error_project_fingerprint는 기존 데이터 이관 순서 때문에
+// ddl-auto가 아닌 DataInitializer에서 생성합니다.
 @Table(name = "errors", indexes = {
     @Index(name = "idx_project_id", columnList = "project_id"),
-    @Index(name = "idx_error_hash", columnList = "project_id, error_hash"),
     @Index(name = "idx_priority", columnList = "project_id, priority_score"),
-    @Index(name = "idx_status", columnList = "project_id, status, last_seen_at")
+    @Index(name = "idx_status", columnList = "project_id, status, last_seen_at"),
+    @Index(name = "idx_recency_boost", columnList = "recency_boost, last_seen_at")
 })
+// 변경된 컬럼만 UPDATE - 엔티티 저장이 upsert로 DB에서 증가시킨 occurrence_count를 덮어쓰지 않도록
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -36,7 +39,12 @@ public class Error extends BaseEntity {
     private Project project;
 
     // Error Identification
-    @Column(name = "error_hash", nullable = false, length = 64)
+    // 128bit 그룹 지문 (ErrorFingerprint) - 그룹 upsert의 유니크 키
+    @Column(name = "error_fingerprint", columnDefinition = "BINARY(16)")
+    private byte[] errorFingerprint;
+
+    // 이전 64자 hex SHA-256 해시 (error_fingerprint 도입 전 데이터에만 남아 있음)
+    @Column(name = "error_hash", length = 64)
     private String errorHash;
 
     @Column(name = "error_type", nullable = false, length = 100)
@@ -69,6 +77,13 @@ public class Error extends BaseEntity {
     @Builder.Default
     private Severity severity = Severity.MEDIUM;
 
+    // priority_score 계산에 적용된 최신성 부스트 / 결제 페이지 여부 (PriorityDecayJob이 SQL로 재계산할 때 사용)
+    @Column(name = "recency_boost", precision = 3, scale = 1)
+    private BigDecimal recencyBoost;
+
+    @Column(name = "critical_page")
+    private Boolean criticalPage;
+
     // Stats
     @Column(name = "occurrence_count")
     @Builder.Default
@@ -113,17 +128,12 @@ public class Error extends BaseEntity {
         if (lastSeenAt == null) {
             lastSeenAt = LocalDateTime.now();
         }
-        if (errorHash == null) {
-            errorHash = calculateErrorHash(errorType, filePath, lineNumber);
+        if (errorFingerprint == null) {
+            errorFingerprint = ErrorFingerprint.of(errorType, filePath, lineNumber).toBytes();
         }
     }
 
     // Business Methods
-    public void incrementOccurrence() {
-        this.occurrenceCount++;
-        this.lastSeenAt = LocalDateTime.now();
-    }
-
     public void updateAffectedUsersCount(int count) {
         this.affectedUsersCount = count;
     }
@@ -133,14 +143,14 @@ public class Error extends BaseEntity {
      * <p>
      * 공식: priority = baseScore + (occurrence * users * pageWeight * errorTypeWeight * recencyBoost)
      * - baseScore: 최소 1점 보장
-     * - errorTypeWeight: TypeError, ReferenceError 등은 더 높은 가중치
-     * - recencyBoost: 최근 1시간 내 발생하면 1.5배
+     * - pageWeight / errorTypeWeight: 프로젝트 우선순위 규칙(PriorityRuleSet)으로 계산한 가중치
+     * - recencyBoost: 최근 1시간 내 발생하면 2배
      * </p>
      */
-    public void calculatePriority(String url) {
+    public void calculatePriority(PriorityWeights weights) {
         double baseScore = 1.0;
-        double pageWeight = determinePageWeight(url);
-        double errorTypeWeight = determineErrorTypeWeight();
+        double pageWeight = weights.pageWeight();
+        double errorTypeWeight = weights.errorTypeWeight();
         double recencyBoost = calculateRecencyBoost();
 
         // 0 방지를 위해 +1
@@ -150,39 +160,9 @@ public class Error extends BaseEntity {
         double priority = baseScore + (occurrenceFactor * usersFactor * pageWeight * errorTypeWeight * recencyBoost);
 
         this.priorityScore = BigDecimal.valueOf(Math.round(priority * 100.0) / 100.0);  // 소수점 2자리
-        this.severity = determineSeverity(priority, url);
-    }
-
-    /**
-     * 에러 타입별 가중치
-     */
-    private double determineErrorTypeWeight() {
-        if (errorType == null) return 1.0;
-
-        String type = errorType.toLowerCase();
-
-        // Critical 타입들 - 코드 버그 가능성 높음
-        if (type.contains("typeerror") || type.contains("referenceerror")) {
-            return 2.5;
-        }
-        // High 타입들 - 런타임 에러
-        if (type.contains("syntaxerror") || type.contains("rangeerror") || type.contains("urierror")) {
-            return 2.0;
-        }
-        // Medium 타입들 - 네트워크/비동기 관련
-        if (type.contains("networkerror") || type.contains("fetcherror") || type.contains("promise")) {
-            return 1.5;
-        }
-        // 일반 에러
-        if (type.contains("error")) {
-            return 1.2;
-        }
-        // 세션/이벤트 관련 - 상대적으로 낮은 우선순위
-        if (type.contains("session") || type.contains("event")) {
-            return 0.8;
-        }
-
-        return 1.0;
+        this.severity = determineSeverity(priority, weights.criticalPage());
+        this.recencyBoost = BigDecimal.valueOf(recencyBoost);
+        this.criticalPage = weights.criticalPage();
     }
 
     /**
@@ -203,36 +183,11 @@ public class Error extends BaseEntity {
         return 1.0;
     }
 
-    private double determinePageWeight(String url) {
-        if (url == null) return 1.0;
-
-        // 결제/체크아웃 - 최고 우선순위
-        if (url.contains("/checkout") || url.contains("/payment") || url.contains("/order")) {
-            return 10.0;
-        }
-        // 인증 관련
-        if (url.contains("/login") || url.contains("/signup") || url.contains("/auth")) {
-            return 8.0;
-        }
-        // 핵심 기능
-        if (url.contains("/dashboard") || url.contains("/api/")) {
-            return 5.0;
-        }
-        // 홈페이지
-        if (url.equals("/") || url.endsWith(".com") || url.endsWith(".kr")) {
-            return 3.0;
-        }
-        return 1.0;
-    }
-
-    private Severity determineSeverity(double priority, String url) {
-        // 체크아웃 페이지의 모든 에러는 최소 HIGH
-        boolean isCriticalPage = url != null &&
-            (url.contains("/checkout") || url.contains("/payment"));
-
-        if (priority > 50 || (isCriticalPage && priority > 20)) {
+    private Severity determineSeverity(double priority, boolean criticalPage) {
+        // 핵심 페이지(체크아웃 등)의 모든 에러는 최소 HIGH
+        if (priority > 50 || (criticalPage && priority > 20)) {
             return Severity.CRITICAL;
-        } else if (priority > 20 || isCriticalPage) {
+        } else if (priority > 20 || criticalPage) {
             return Severity.HIGH;
         } else if (priority > 8) {
             return Severity.MEDIUM;
@@ -256,28 +211,6 @@ public class Error extends BaseEntity {
         this.resolvedBy = null;
     }
 
-    // Static Methods
-    public static String calculateErrorHash(String errorType, String filePath, Integer lineNumber) {
-        try {
-            String input = errorType + "|" +
-                          (filePath != null ? filePath : "") + "|" +
-                          (lineNumber != null ? lineNumber.toString() : "");
-
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hash = md.digest(input.getBytes(StandardCharsets.UTF_8));
-
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not found", e);
-        }
-    }
-
     public enum Severity {
         CRITICAL,
         HIGH,
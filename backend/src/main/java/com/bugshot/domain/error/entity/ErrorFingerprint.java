@@ -0,0 +1,173 @@
+package com.bugshot.domain.error.entity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 에러 그룹 지문 (128bit)
+ * <p>
+ * "errorType|filePath|lineNumber"의 SHA-256 앞 16바이트로, errors.error_fingerprint BINARY(16) 컬럼에 저장됩니다.
+ * 기존 64자 hex error_hash의 앞 32자와 같은 값이므로 UNHEX(LEFT(error_hash, 32))로 기존 데이터를 옮길 수 있습니다.
+ * 스택 트레이스를 파싱할 수 있으면 "frames|errorType|frame1|frame2..."(정규화된 상위 프레임)로 계산합니다.
+ * </p>
+ *
+ * <pre>
+ * - 스레드별 MessageDigest 재사용 (getInstance 호출 없음)
+ * - 입력 문자열을 합치지 않고 digest에 바로 update
+ * - hex 문자열 대신 long 두 개로 보관 → 배치 그룹핑 키로 그대로 사용
+ * </pre>
+ */
+public record ErrorFingerprint(long high, long low) {
+
+    private static final ThreadLocal<Hasher> HASHER = ThreadLocal.withInitial(Hasher::new);
+
+    public static ErrorFingerprint of(String errorType, String filePath, Integer lineNumber) {
+        return HASHER.get().hash(errorType, filePath, lineNumber);
+    }
+
+    /**
+     * 정규화된 스택 프레임 기반 지문 (위치 기반 지문과 입력이 겹치지 않도록 "frames" 접두어 사용)
+     */
+    public static ErrorFingerprint ofFrames(String errorType, List<String> frames) {
+        return HASHER.get().hashFrames(errorType, frames);
+    }
+
+    public static ErrorFingerprint fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("Fingerprint must be 16 bytes");
+        }
+        return new ErrorFingerprint(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[16];
+        writeLong(bytes, 0, high);
+        writeLong(bytes, 8, low);
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return HexFormat.of().toHexDigits(high) + HexFormat.of().toHexDigits(low);
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * 스레드별 해시 상태 (digest + 출력/입력 버퍼)
+     */
+    private static final class Hasher {
+
+        private static final byte SEPARATOR = '|';
+
+        private final MessageDigest digest;
+        private final byte[] output = new byte[32];
+        private final byte[] scratch = new byte[256];
+        private int length;
+
+        private Hasher() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 algorithm not found", e);
+            }
+        }
+
+        private ErrorFingerprint hash(String errorType, String filePath, Integer lineNumber) {
+            // 기존 calculateErrorHash와 동일한 입력: errorType + "|" + (filePath ?: "") + "|" + (lineNumber ?: "")
+            length = 0;
+            appendUtf8(String.valueOf(errorType));
+            append(SEPARATOR);
+            if (filePath != null) {
+                appendUtf8(filePath);
+            }
+            append(SEPARATOR);
+            if (lineNumber != null) {
+                appendDecimal(lineNumber);
+            }
+            return finish();
+        }
+
+        private ErrorFingerprint hashFrames(String errorType, List<String> frames) {
+            length = 0;
+            appendUtf8("frames");
+            append(SEPARATOR);
+            appendUtf8(String.valueOf(errorType));
+            for (String frame : frames) {
+                append(SEPARATOR);
+                appendUtf8(frame);
+            }
+            return finish();
+        }
+
+        private ErrorFingerprint finish() {
+            flush();
+            try {
+                digest.digest(output, 0, output.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException("Failed to compute error fingerprint", e);
+            }
+            return new ErrorFingerprint(readLong(output, 0), readLong(output, 8));
+        }
+
+        /**
+         * ASCII는 버퍼에 바로 쓰고, 비 ASCII 문자가 나오면 나머지를 UTF-8로 인코딩
+         */
+        private void appendUtf8(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    flush();
+                    digest.update(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                append((byte) c);
+            }
+        }
+
+        private void appendDecimal(int value) {
+            if (value < 0) {
+                append((byte) '-');
+            }
+            long remaining = Math.abs((long) value);
+            long divisor = 1;
+            while (divisor * 10 <= remaining) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                append((byte) ('0' + (remaining / divisor) % 10));
+            }
+        }
+
+        private void append(byte b) {
+            if (length == scratch.length) {
+                flush();
+            }
+            scratch[length++] = b;
+        }
+
+        private void flush() {
+            if (length > 0) {
+                digest.update(scratch, 0, length);
+                length = 0;
+            }
+        }
+    }
+}
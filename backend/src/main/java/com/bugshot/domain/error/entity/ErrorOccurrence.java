@@ -76,6 +76,10 @@ public class ErrorOccurrence {
     @Column(name = "session_replay_id", length = 36)
     private String sessionReplayId;
 
+    // 급증 보호 샘플링 비율 (null 또는 1.0 = 전수 저장, 0.1 = 이 행이 약 10건을 대표)
+    @Column(name = "sample_rate")
+    private Double sampleRate;
+
     // Timestamp
     @Column(name = "occurred_at", nullable = false)
     private LocalDateTime occurredAt;
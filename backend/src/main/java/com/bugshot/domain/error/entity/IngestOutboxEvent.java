@@ -0,0 +1,130 @@
+package com.bugshot.domain.error.entity;
+
+import com.bugshot.domain.error.dto.IngestRequest;
+import com.bugshot.domain.project.dto.ProjectSnapshot;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 수집 후속 작업 아웃박스 (transactional outbox)
+ * <p>
+ * 수집 트랜잭션 안에서 error/occurrence와 함께 저장되고, IngestOutboxRelay가 커밋된 행만 꺼내
+ * 우선순위 계산/세션 리플레이 저장/알림 전송 핸들러로 전달합니다. (at-least-once)
+ * </p>
+ *
+ * <pre>
+ * - available_at: 이 시각 이후 릴레이가 가져갈 수 있음 (처리 중에는 lease 만료 시각, 실패 시 재시도 시각)
+ * - completed_handlers: 완료된 핸들러 비트 (재시도 시 성공한 핸들러는 다시 실행하지 않음)
+ * - 세션 리플레이 원본은 재시도에 필요하므로 행에 함께 보관
+ * </pre>
+ */
+@Entity
+@Table(name = "ingest_outbox", indexes = {
+    @Index(name = "idx_ingest_outbox_available_at", columnList = "available_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IngestOutboxEvent {
+
+    public static final int HANDLER_PRIORITY = 1;
+    public static final int HANDLER_REPLAY = 1 << 1;
+    public static final int HANDLER_NOTIFICATION = 1 << 2;
+    public static final int ALL_HANDLERS = HANDLER_PRIORITY | HANDLER_REPLAY | HANDLER_NOTIFICATION;
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "project_id", nullable = false, length = 36)
+    private String projectId;
+
+    @Column(name = "error_id", nullable = false, length = 36)
+    private String errorId;
+
+    @Column(name = "occurrence_id", nullable = false, length = 36)
+    private String occurrenceId;
+
+    @Column(name = "context_url", length = 1000)
+    private String contextUrl;
+
+    @Column(name = "session_replay_enabled", nullable = false)
+    private boolean sessionReplayEnabled;
+
+    // Session Replay (요청에 포함된 경우만)
+    @Column(name = "replay_session_id", length = 100)
+    private String replaySessionId;
+
+    @Lob
+    @Column(name = "replay_events", columnDefinition = "LONGBLOB")
+    private byte[] replayEvents;
+
+    @Column(name = "replay_events_count")
+    private Integer replayEventsCount;
+
+    @Column(name = "replay_duration_ms")
+    private Integer replayDurationMs;
+
+    // Delivery State
+    @Column(name = "completed_handlers", nullable = false)
+    private int completedHandlers;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static IngestOutboxEvent of(ProjectSnapshot project, Error error, ErrorOccurrence occurrence,
+                                       IngestRequest request) {
+        IngestRequest.SessionReplayData replay = request.getSessionReplay();
+        return IngestOutboxEvent.builder()
+            .projectId(project.id())
+            .errorId(error.getId())
+            .occurrenceId(occurrence.getId())
+            .contextUrl(request.getContext().getUrl())
+            .sessionReplayEnabled(project.sessionReplayEnabled())
+            .replaySessionId(replay != null ? replay.getSessionId() : null)
+            .replayEvents(replay != null ? replay.getEvents() : null)
+            .replayEventsCount(replay != null ? replay.getEventsCount() : null)
+            .replayDurationMs(replay != null ? replay.getDurationMs() : null)
+            .build();
+    }
+
+    @PrePersist
+    public void generateId() {
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (availableAt == null) {
+            availableAt = createdAt;
+        }
+    }
+
+    // Business Methods
+    public IngestRequest.SessionReplayData toSessionReplayData() {
+        if (replayEvents == null) {
+            return null;
+        }
+        return IngestRequest.SessionReplayData.builder()
+            .events(replayEvents)
+            .eventsCount(replayEventsCount != null ? replayEventsCount : 0)
+            .durationMs(replayDurationMs)
+            .sessionId(replaySessionId)
+            .build();
+    }
+
+    public boolean isCompleted(int handler) {
+        return (completedHandlers & handler) != 0;
+    }
+}
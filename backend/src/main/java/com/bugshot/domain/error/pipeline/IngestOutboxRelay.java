@@ -0,0 +1,220 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.error.entity.IngestOutboxEvent;
+import com.bugshot.domain.error.repository.IngestOutboxRepository;
+import com.bugshot.global.config.ErrorGroupKeyMigration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 아웃박스 릴레이
+ * <p>
+ * 수집 트랜잭션과 함께 커밋된 ingest_outbox 행을 배치로 가져와 {@link PostIngestPipeline}으로 전달합니다.
+ * 인프로세스 이벤트와 달리 재시작/장애 시에도 유실되지 않고, 커밋 전에 후속 작업이 실행되지 않습니다.
+ * </p>
+ *
+ * <pre>
+ * 1. 짧은 트랜잭션에서 SELECT ... FOR UPDATE SKIP LOCKED로 batch-size개를 잠그고 available_at을 lease 만료 시각으로 미룸
+ *    → 여러 노드가 서로 다른 행을 병렬로 가져가고, 단계 실행 중에는 행 잠금을 잡고 있지 않음
+ * 2. 행을 불변 스냅샷으로 바꿔 파이프라인 실행 (아직 완료되지 않은 단계만, lease 만료 lease-safety-margin-seconds 전까지 대기)
+ *    → 완료 기록이 lease 안에 끝나므로 다른 노드가 같은 행을 다시 가져가지 않음
+ * 3. 모든 단계가 끝난 행은 삭제, 실패/미완료 단계가 있으면 완료 비트를 저장하고 지수 백오프로 재시도
+ *
+ * - 전달 보장: at-least-once (완료 기록 전 노드가 죽으면 lease 만료 후 다시 실행 → 알림이 중복될 수 있음)
+ * - max-attempts를 넘은 행은 로그를 남기고 삭제
+ * - 메트릭: bugshot.ingest.outbox.dispatched / .retried / .dead / .batch
+ * </pre>
+ */
+@Component
+@DependsOn(ErrorGroupKeyMigration.BEAN_NAME)
+@Slf4j
+public class IngestOutboxRelay {
+
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    private final IngestOutboxRepository outboxRepository;
+    private final PostIngestPipeline pipeline;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int relayThreads;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long leaseSeconds;
+    private final long leaseSafetyMarginSeconds;
+    private final int maxAttempts;
+
+    private final Counter dispatchedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+
+    private final List<Thread> relays = new ArrayList<>();
+    private volatile boolean running;
+
+    public IngestOutboxRelay(IngestOutboxRepository outboxRepository,
+                             PostIngestPipeline pipeline,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.ingest.outbox.relay-threads:1}") int relayThreads,
+                             @Value("${app.ingest.outbox.batch-size:50}") int batchSize,
+                             @Value("${app.ingest.outbox.poll-interval-ms:200}") long pollIntervalMs,
+                             @Value("${app.ingest.outbox.lease-seconds:60}") long leaseSeconds,
+                             @Value("${app.ingest.outbox.lease-safety-margin-seconds:10}") long leaseSafetyMarginSeconds,
+                             @Value("${app.ingest.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.pipeline = pipeline;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayThreads = relayThreads;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.leaseSeconds = leaseSeconds;
+        this.leaseSafetyMarginSeconds = Math.min(leaseSafetyMarginSeconds, leaseSeconds / 2);
+        this.maxAttempts = maxAttempts;
+
+        this.dispatchedCounter = Counter.builder("bugshot.ingest.outbox.dispatched")
+                .description("Outbox events whose pipeline stages all completed")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("bugshot.ingest.outbox.retried")
+                .description("Outbox events rescheduled because a pipeline stage failed or timed out")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("bugshot.ingest.outbox.dead")
+                .description("Outbox events dropped after exceeding max attempts")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("bugshot.ingest.outbox.batch")
+                .description("Time spent claiming and dispatching one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < relayThreads; i++) {
+            Thread relay = new Thread(this::runRelay, "ingest-outbox-relay-" + i);
+            relay.setDaemon(true);
+            relay.start();
+            relays.add(relay);
+        }
+        log.info("Ingest outbox relay started: threads={}, batchSize={}, pollInterval={}ms, lease={}s",
+                relayThreads, batchSize, pollIntervalMs, leaseSeconds);
+    }
+
+    /**
+     * 종료 시 진행 중인 배치만 마치고 중단 (남은 행은 다음 기동 시 또는 다른 노드가 처리)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread relay : relays) {
+            relay.interrupt();
+        }
+        for (Thread relay : relays) {
+            relay.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void runRelay() {
+        while (running) {
+            try {
+                int processed = batchTimer.recordCallable(this::relayBatch);
+                // 배치가 가득 찼으면 밀린 행이 더 있으므로 바로 다음 배치 처리
+                if (processed < batchSize) {
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Outbox relay batch failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private int relayBatch() throws InterruptedException {
+        // lease는 claim 시각부터 계산되므로 기한도 claim 전에 잡음
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseSeconds - leaseSafetyMarginSeconds);
+        List<IngestOutboxEvent> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<PostIngestSnapshot> snapshots = claimed.stream().map(PostIngestSnapshot::from).toList();
+        Map<String, Integer> completed = pipeline.process(snapshots, deadlineNanos);
+        complete(claimed, completed);
+        return claimed.size();
+    }
+
+    /**
+     * 처리 가능한 행을 잠그고 lease를 잡은 뒤 바로 커밋
+     */
+    private List<IngestOutboxEvent> claim() {
+        List<IngestOutboxEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<IngestOutboxEvent> rows = outboxRepository.lockAvailable(now, batchSize);
+            if (!rows.isEmpty()) {
+                outboxRepository.lease(rows.stream().map(IngestOutboxEvent::getId).toList(),
+                        now.plusSeconds(leaseSeconds));
+            }
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * 완료된 행 삭제, 미완료 행 재시도 예약 (한 트랜잭션)
+     */
+    private void complete(List<IngestOutboxEvent> rows, Map<String, Integer> completed) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> finished = new ArrayList<>();
+        List<IngestOutboxEvent> retries = new ArrayList<>();
+        for (IngestOutboxEvent row : rows) {
+            int attempts = row.getAttempts() + 1;
+            int completedStages = completed.get(row.getId());
+            if (completedStages == IngestOutboxEvent.ALL_HANDLERS) {
+                finished.add(row.getId());
+                dispatchedCounter.increment();
+            } else if (attempts >= maxAttempts) {
+                log.error("Dropping outbox event after {} attempts: id={}, errorId={}, completedStages={}",
+                        attempts, row.getId(), row.getErrorId(), completedStages);
+                finished.add(row.getId());
+                deadCounter.increment();
+            } else {
+                retries.add(row);
+                retriedCounter.increment();
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!finished.isEmpty()) {
+                outboxRepository.deleteByIds(finished);
+            }
+            for (IngestOutboxEvent retry : retries) {
+                long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(retry.getAttempts() + 1, 16));
+                outboxRepository.reschedule(retry.getId(), completed.get(retry.getId()), now.plusSeconds(backoffSeconds));
+            }
+        });
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(Math.max(pollIntervalMs, 1000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
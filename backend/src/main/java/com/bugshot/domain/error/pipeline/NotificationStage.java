@@ -0,0 +1,36 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 전송 단계
+ * <p>
+ * PostIngestPipeline이 우선순위 계산 후 notificationExecutor에서 스냅샷마다 실행합니다.
+ * 채널 심각도 필터는 에러의 현재 심각도로 판단합니다. (새 그룹은 방금 계산된 값, 기존 그룹은 마지막 재계산 값)
+ * 채널별 전송 실패는 NotificationService가 기록하고 넘어가므로, 예외는 재시도가 필요한 경우(DB 오류 등)에만 전파됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationStage {
+
+    private final NotificationService notificationService;
+
+    public void apply(PostIngestSnapshot snapshot, PostIngestContext context) {
+        Error error = context.error(snapshot.errorId());
+        log.debug("Sending notifications: errorId={}, projectId={}", error.getId(), snapshot.projectId());
+
+        notificationService.notifyError(
+                context.project(snapshot.projectId()),
+                error,
+                context.occurrence(snapshot.occurrenceId())
+        );
+
+        log.info("Notifications sent: errorId={}", error.getId());
+    }
+}
@@ -0,0 +1,42 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.error.entity.ErrorOccurrence;
+import com.bugshot.domain.project.entity.Project;
+
+import java.util.Map;
+
+/**
+ * 파이프라인 단계들이 공유하는 배치 로드 결과
+ * <p>
+ * 한 배치의 에러/발생/프로젝트를 ID 목록 조회 한 번씩으로 읽어 둡니다.
+ * 로드 트랜잭션이 끝난 뒤에는 분리(detached) 상태지만, 단계들은 지연 로딩 연관관계 없이 값 필드만 사용합니다.
+ * </p>
+ */
+public record PostIngestContext(
+        Map<String, Error> errors,
+        Map<String, ErrorOccurrence> occurrences,
+        Map<String, Project> projects
+) {
+
+    /**
+     * 그 사이 에러/발생/프로젝트가 삭제되지 않았는지 확인
+     */
+    public boolean contains(PostIngestSnapshot snapshot) {
+        return errors.containsKey(snapshot.errorId())
+                && occurrences.containsKey(snapshot.occurrenceId())
+                && projects.containsKey(snapshot.projectId());
+    }
+
+    public Error error(String errorId) {
+        return errors.get(errorId);
+    }
+
+    public ErrorOccurrence occurrence(String occurrenceId) {
+        return occurrences.get(occurrenceId);
+    }
+
+    public Project project(String projectId) {
+        return projects.get(projectId);
+    }
+}
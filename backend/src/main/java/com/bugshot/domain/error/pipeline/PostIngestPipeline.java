@@ -0,0 +1,205 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.error.entity.ErrorOccurrence;
+import com.bugshot.domain.error.entity.IngestOutboxEvent;
+import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
+import com.bugshot.domain.error.repository.ErrorRepository;
+import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.config.AsyncConfig;
+import com.bugshot.global.jpa.QueryCountInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 수집 후속 작업 파이프라인
+ * <p>
+ * 독립적인 리스너 세 개가 각자 엔티티를 다시 조회하고 저장하던 구조를, 정해진 순서로 실행되는 단계로 묶었습니다.
+ * 배치의 엔티티는 한 번만 조회해 모든 단계가 공유하고, 에러 저장은 한 번의 flush로 끝납니다.
+ * </p>
+ *
+ * <pre>
+ * 1. 로드 (트랜잭션): 에러/발생/프로젝트를 각각 findAllById 한 번으로 조회
+ * 2. 우선순위 (같은 트랜잭션): PriorityStage - 새 그룹만 바로 계산, 나머지는 dirty 표시 후 주기적으로 합쳐서 재계산
+ * 3. 세션 리플레이 / 알림 (스냅샷별, 작업 종류별 executor): 에러의 현재 심각도를 그대로 사용
+ *
+ * - 1~2의 SQL: 조회 3개 (배치 크기와 무관) + 새 그룹이 있으면 에러 UPDATE JDBC 배치 한 번과 프로젝트별 사용자 수 UPDATE
+ *   (사용자 수는 Redis 스케치에서 읽음, 스케치가 없는 그룹은 최초 한 번 발생 테이블에서 채움)
+ *   → bugshot.ingest.pipeline.queries (배치당) 로 측정
+ * - 단계 완료 여부는 스냅샷별 비트로 돌려주고, 릴레이가 아웃박스 행에 기록 (완료된 단계는 재시도하지 않음)
+ * - 그 사이 삭제된 에러/발생/프로젝트는 모든 단계를 완료한 것으로 처리
+ * </pre>
+ */
+@Component
+@Slf4j
+public class PostIngestPipeline {
+
+    private final ErrorRepository errorRepository;
+    private final ErrorOccurrenceRepository occurrenceRepository;
+    private final ProjectRepository projectRepository;
+    private final PriorityStage priorityStage;
+    private final SessionReplayStage replayStage;
+    private final NotificationStage notificationStage;
+    private final Executor replayExecutor;
+    private final Executor notificationExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary queriesSummary;
+
+    public PostIngestPipeline(ErrorRepository errorRepository,
+                              ErrorOccurrenceRepository occurrenceRepository,
+                              ProjectRepository projectRepository,
+                              PriorityStage priorityStage,
+                              SessionReplayStage replayStage,
+                              NotificationStage notificationStage,
+                              @Qualifier(AsyncConfig.REPLAY_EXECUTOR) Executor replayExecutor,
+                              @Qualifier(AsyncConfig.NOTIFICATION_EXECUTOR) Executor notificationExecutor,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.errorRepository = errorRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.projectRepository = projectRepository;
+        this.priorityStage = priorityStage;
+        this.replayStage = replayStage;
+        this.notificationStage = notificationStage;
+        this.replayExecutor = replayExecutor;
+        this.notificationExecutor = notificationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.queriesSummary = DistributionSummary.builder("bugshot.ingest.pipeline.queries")
+                .description("SQL statements issued by the load and priority stages per batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치 실행
+     *
+     * @param deadlineNanos 리플레이/알림 단계 완료를 기다릴 System.nanoTime() 기한
+     * @return outboxId → 완료된 단계 비트 (IngestOutboxEvent.HANDLER_*)
+     */
+    public Map<String, Integer> process(List<PostIngestSnapshot> snapshots, long deadlineNanos)
+            throws InterruptedException {
+        Map<String, Integer> completed = new LinkedHashMap<>();
+        snapshots.forEach(snapshot -> completed.put(snapshot.outboxId(), snapshot.completedStages()));
+
+        // 1~2. 로드 + 우선순위 (한 트랜잭션)
+        boolean[] priorityApplied = new boolean[1];
+        QueryCountInspector.start();
+        PostIngestContext context;
+        try {
+            context = transactionTemplate.execute(status -> {
+                PostIngestContext loaded = load(snapshots);
+                List<PostIngestSnapshot> pending = snapshots.stream()
+                        .filter(loaded::contains)
+                        .filter(snapshot -> !snapshot.isCompleted(IngestOutboxEvent.HANDLER_PRIORITY))
+                        .toList();
+                try {
+                    priorityStage.apply(pending, loaded);
+                    priorityApplied[0] = true;
+                } catch (RuntimeException e) {
+                    log.error("Priority stage failed: events={}", pending.size(), e);
+                    status.setRollbackOnly();
+                }
+                return loaded;
+            });
+        } finally {
+            int queries = QueryCountInspector.stop();
+            queriesSummary.record(queries);
+            log.debug("Post-ingest load/priority stages: events={}, queries={}", snapshots.size(), queries);
+        }
+        if (context == null) {
+            return completed;
+        }
+
+        // 3. 리플레이 / 알림 (우선순위 계산 결과 반영 후)
+        List<StageRun> runs = new ArrayList<>();
+        for (PostIngestSnapshot snapshot : snapshots) {
+            if (!context.contains(snapshot)) {
+                completed.put(snapshot.outboxId(), IngestOutboxEvent.ALL_HANDLERS);
+                continue;
+            }
+            if (priorityApplied[0]) {
+                completed.merge(snapshot.outboxId(), IngestOutboxEvent.HANDLER_PRIORITY, (a, b) -> a | b);
+            }
+            if (!snapshot.hasSessionReplay()) {
+                completed.merge(snapshot.outboxId(), IngestOutboxEvent.HANDLER_REPLAY, (a, b) -> a | b);
+            } else if (!snapshot.isCompleted(IngestOutboxEvent.HANDLER_REPLAY)) {
+                runs.add(StageRun.start(snapshot, IngestOutboxEvent.HANDLER_REPLAY, replayExecutor,
+                        () -> replayStage.apply(snapshot)));
+            }
+            if (!snapshot.isCompleted(IngestOutboxEvent.HANDLER_NOTIFICATION)) {
+                PostIngestContext shared = context;
+                runs.add(StageRun.start(snapshot, IngestOutboxEvent.HANDLER_NOTIFICATION, notificationExecutor,
+                        () -> notificationStage.apply(snapshot, shared)));
+            }
+        }
+
+        for (StageRun run : runs) {
+            if (run.await(deadlineNanos)) {
+                completed.merge(run.snapshot.outboxId(), run.stage, (a, b) -> a | b);
+            }
+        }
+        return completed;
+    }
+
+    private PostIngestContext load(List<PostIngestSnapshot> snapshots) {
+        Map<String, Error> errors = errorRepository.findAllById(
+                        snapshots.stream().map(PostIngestSnapshot::errorId).distinct().toList())
+                .stream().collect(Collectors.toMap(Error::getId, Function.identity()));
+        Map<String, ErrorOccurrence> occurrences = occurrenceRepository.findAllById(
+                        snapshots.stream().map(PostIngestSnapshot::occurrenceId).toList())
+                .stream().collect(Collectors.toMap(ErrorOccurrence::getId, Function.identity()));
+        Map<String, Project> projects = projectRepository.findAllById(
+                        snapshots.stream().map(PostIngestSnapshot::projectId).distinct().toList())
+                .stream().collect(Collectors.toMap(Project::getId, Function.identity()));
+        return new PostIngestContext(errors, occurrences, projects);
+    }
+
+    /**
+     * executor에서 실행 중인 단계 하나
+     * <p>
+     * executor가 가득 차 거부하면(AbortPolicy) 기다리지 않고 바로 미완료로 처리하고,
+     * 기한 내 끝나지 않은 단계도 미완료로 봅니다. 미완료 단계는 릴레이가 백오프 후 다시 실행합니다.
+     * </p>
+     */
+    private record StageRun(PostIngestSnapshot snapshot, int stage, CompletableFuture<Void> future) {
+
+        private static StageRun start(PostIngestSnapshot snapshot, int stage, Executor executor, Runnable task) {
+            try {
+                return new StageRun(snapshot, stage, CompletableFuture.runAsync(task, executor));
+            } catch (RejectedExecutionException e) {
+                return new StageRun(snapshot, stage, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        private boolean await(long deadlineNanos) throws InterruptedException {
+            try {
+                future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("Post-ingest stage did not complete: outboxId={}, errorId={}, stage={}, cause={}",
+                        snapshot.outboxId(), snapshot.errorId(), stage, e.getMessage());
+                return false;
+            }
+        }
+    }
+}
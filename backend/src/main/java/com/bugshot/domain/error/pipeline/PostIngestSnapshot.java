@@ -0,0 +1,49 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.error.dto.IngestRequest;
+import com.bugshot.domain.error.entity.IngestOutboxEvent;
+
+/**
+ * 후속 작업 파이프라인 입력 (불변)
+ * <p>
+ * 아웃박스 행에서 만들어지며 엔티티 대신 ID와 값만 담습니다.
+ * 엔티티는 파이프라인이 배치 단위로 한 번 조회해 {@link PostIngestContext}로 모든 단계에 공유합니다.
+ * </p>
+ *
+ * @param completedStages 이전 시도에서 이미 완료된 단계 비트 (IngestOutboxEvent.HANDLER_*)
+ */
+public record PostIngestSnapshot(
+        String outboxId,
+        String projectId,
+        String errorId,
+        String occurrenceId,
+        String contextUrl,
+        boolean sessionReplayEnabled,
+        IngestRequest.SessionReplayData sessionReplay,
+        int completedStages
+) {
+
+    public static PostIngestSnapshot from(IngestOutboxEvent row) {
+        return new PostIngestSnapshot(
+                row.getId(),
+                row.getProjectId(),
+                row.getErrorId(),
+                row.getOccurrenceId(),
+                row.getContextUrl(),
+                row.isSessionReplayEnabled(),
+                row.toSessionReplayData(),
+                row.getCompletedHandlers()
+        );
+    }
+
+    /**
+     * 세션 리플레이 데이터가 있고 프로젝트에서 허용되었는지 확인
+     */
+    public boolean hasSessionReplay() {
+        return sessionReplay != null && sessionReplayEnabled;
+    }
+
+    public boolean isCompleted(int stage) {
+        return (completedStages & stage) != 0;
+    }
+}
@@ -0,0 +1,272 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
+import com.bugshot.domain.error.repository.ErrorRepository;
+import com.bugshot.domain.error.service.AffectedUserSketches;
+import com.bugshot.domain.error.service.AffectedUserSketches.UserHit;
+import com.bugshot.domain.priority.service.PriorityRuleCache;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.jpa.QueryCountInspector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 에러 우선순위 계산 단계
+ * <p>
+ * 발생마다 COUNT(DISTINCT user_identifier)를 다시 세면 같은 에러가 1만 번 발생할 때 점점 커지는 발생 테이블을
+ * 1만 번 스캔합니다. 에러 그룹을 dirty로 표시만 해 두고, 주기(recompute-interval-ms)마다 한 번씩 모아서 다시 계산합니다.
+ * </p>
+ *
+ * <pre>
+ * - 아직 한 번도 계산되지 않은 새 그룹은 파이프라인 트랜잭션 안에서 바로 계산 (첫 알림이 실제 심각도를 사용)
+ * - 그 외에는 dirty 집합(에러 ID → 최근 URL, 누적 발생 수)에 병합 → 주기마다 에러당 최대 한 번 재계산
+ * - 사용자 추가는 배치마다 AffectedUserSketches (HyperLogLog)에 바로 반영, 재계산은 PFCOUNT만 읽음
+ * - 재계산: 에러 findAllById 한 번 + 사용자 수 PFCOUNT 파이프라인 한 번 + 에러 UPDATE 배치 한 번 (chunk 단위)
+ * - 에러 UPDATE는 JdbcTemplate 배치로 직접 실행하고 엔티티는 detach
+ *   (Error는 @DynamicUpdate라 Hibernate가 JDBC 배치를 쓰지 않아 flush하면 그룹마다 UPDATE 한 번)
+ * - 프로젝트 total_users_affected: 프로젝트 스케치(에러 스케치의 합집합) 추정값으로 갱신
+ * - Redis 장애 시 에러별 사용자 수는 GROUP BY 집계로 대체하고 프로젝트 값은 그대로 둠
+ * - 재계산 실패 시 dirty 항목을 되돌려 다음 주기에 재시도
+ * - dirty 집합은 노드 로컬 메모리 (재시작 시 유실되면 다음 발생 때 다시 표시됨)
+ * - 메트릭: bugshot.ingest.priority.coalesced (재계산 1회당 합쳐진 발생 수) / .recomputed / .dirty
+ * </pre>
+ */
+@Component
+@Slf4j
+public class PriorityStage {
+
+    private static final int RECOMPUTE_CHUNK_SIZE = 500;
+
+    private static final String UPDATE_PRIORITY_SQL =
+            "UPDATE errors SET affected_users_count = ?, priority_score = ?, severity = ?, recency_boost = ?, "
+                    + "critical_page = ?, updated_at = ? WHERE id = ?";
+
+    private final ErrorRepository errorRepository;
+    private final ErrorOccurrenceRepository occurrenceRepository;
+    private final ProjectRepository projectRepository;
+    private final AffectedUserSketches affectedUserSketches;
+    private final PriorityRuleCache priorityRuleCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, DirtyError> dirty = new ConcurrentHashMap<>();
+
+    private final DistributionSummary coalescedSummary;
+    private final Counter recomputedCounter;
+
+    public PriorityStage(ErrorRepository errorRepository,
+                         ErrorOccurrenceRepository occurrenceRepository,
+                         ProjectRepository projectRepository,
+                         AffectedUserSketches affectedUserSketches,
+                         PriorityRuleCache priorityRuleCache,
+                         JdbcTemplate jdbcTemplate,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.errorRepository = errorRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.projectRepository = projectRepository;
+        this.affectedUserSketches = affectedUserSketches;
+        this.priorityRuleCache = priorityRuleCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("bugshot.ingest.priority.dirty", dirty, Map::size)
+                .description("Error groups waiting for priority recomputation")
+                .register(meterRegistry);
+        this.coalescedSummary = DistributionSummary.builder("bugshot.ingest.priority.coalesced")
+                .description("Occurrences coalesced into one priority recomputation")
+                .register(meterRegistry);
+        this.recomputedCounter = Counter.builder("bugshot.ingest.priority.recomputed")
+                .description("Priority recomputations executed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파이프라인 로드 트랜잭션 안에서 배치에 대해 실행
+     */
+    public void apply(List<PostIngestSnapshot> snapshots, PostIngestContext context) {
+        addAffectedUsers(snapshots, context);
+
+        Map<String, DirtyError> immediate = new LinkedHashMap<>();
+        for (PostIngestSnapshot snapshot : snapshots) {
+            DirtyError target = new DirtyError(snapshot.projectId(), snapshot.contextUrl(), 1);
+            if (isUnscored(context.error(snapshot.errorId()))) {
+                immediate.merge(snapshot.errorId(), target, DirtyError::merge);
+            } else {
+                dirty.merge(snapshot.errorId(), target, DirtyError::merge);
+            }
+        }
+        if (!immediate.isEmpty()) {
+            recompute(immediate, context.errors());
+        }
+    }
+
+    /**
+     * dirty 그룹 일괄 재계산
+     */
+    @Scheduled(fixedDelayString = "${app.ingest.priority.recompute-interval-ms:5000}")
+    public void drain() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        Map<String, DirtyError> chunk = new LinkedHashMap<>();
+        for (String errorId : dirty.keySet()) {
+            DirtyError target = dirty.remove(errorId);
+            if (target != null) {
+                chunk.put(errorId, target);
+            }
+            if (chunk.size() == RECOMPUTE_CHUNK_SIZE) {
+                drainChunk(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            drainChunk(chunk);
+        }
+    }
+
+    private void drainChunk(Map<String, DirtyError> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, Error> errors = errorRepository.findAllById(chunk.keySet()).stream()
+                        .collect(Collectors.toMap(Error::getId, Function.identity()));
+                recompute(chunk, errors);
+            });
+        } catch (Exception e) {
+            log.error("Priority recomputation failed, will retry: errors={}", chunk.size(), e);
+            chunk.forEach((errorId, target) -> dirty.merge(errorId, target, DirtyError::merge));
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션에서 로드된(managed) 에러들의 사용자 수/우선순위 갱신 - UPDATE 배치 한 번으로 저장
+     */
+    private void recompute(Map<String, DirtyError> targets, Map<String, Error> errors) {
+        Map<String, Long> affectedUsers = countAffectedUsers(targets.keySet());
+        Set<String> projectIds = new LinkedHashSet<>();
+        List<Error> updated = new ArrayList<>();
+
+        targets.forEach((errorId, target) -> {
+            Error error = errors.get(errorId);
+            if (error == null) {
+                // 그 사이 삭제된 그룹
+                return;
+            }
+            // 영향받은 사용자 수 / 우선순위 점수 계산 (페이지 가중치는 가장 최근 발생 URL 기준, 프로젝트 규칙 적용)
+            error.updateAffectedUsersCount(affectedUsers.getOrDefault(errorId, 0L).intValue());
+            error.calculatePriority(priorityRuleCache.get(target.projectId()).weigh(target.url(), error.getErrorType()));
+            projectIds.add(target.projectId());
+            updated.add(error);
+
+            coalescedSummary.record(target.occurrences());
+            recomputedCounter.increment();
+            log.debug("Priority calculated: errorId={}, score={}, severity={}, coalesced={}",
+                    errorId, error.getPriorityScore(), error.getSeverity(), target.occurrences());
+        });
+
+        writePriorities(updated);
+        updateProjectTotals(projectIds);
+    }
+
+    /**
+     * 계산 결과를 JDBC 배치 한 번으로 저장하고 엔티티를 detach (flush 시 그룹별 UPDATE 방지)
+     */
+    private void writePriorities(List<Error> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(errors.size());
+        for (Error error : errors) {
+            rows.add(new Object[]{
+                    error.getAffectedUsersCount(), error.getPriorityScore(), error.getSeverity().name(),
+                    error.getRecencyBoost(), error.getCriticalPage(), now, error.getId()
+            });
+            entityManager.detach(error);
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PRIORITY_SQL, rows);
+        QueryCountInspector.record(1);
+    }
+
+    private void addAffectedUsers(List<PostIngestSnapshot> snapshots, PostIngestContext context) {
+        List<UserHit> hits = snapshots.stream()
+                .map(snapshot -> new UserHit(snapshot.projectId(), snapshot.errorId(),
+                        context.occurrence(snapshot.occurrenceId()).getUserIdentifier()))
+                .toList();
+        try {
+            affectedUserSketches.add(hits);
+        } catch (Exception e) {
+            log.warn("Failed to add affected users to sketches: events={}, cause={}", hits.size(), e.getMessage());
+        }
+    }
+
+    private Map<String, Long> countAffectedUsers(Collection<String> errorIds) {
+        try {
+            return affectedUserSketches.countErrors(errorIds);
+        } catch (Exception e) {
+            log.warn("Affected-user sketches unavailable, counting from occurrences: {}", e.getMessage());
+        }
+
+        Map<String, Long> affectedUsers = new LinkedHashMap<>();
+        List<String> ids = new ArrayList<>(errorIds);
+        for (Object[] row : occurrenceRepository.countDistinctUsersByErrorIds(ids)) {
+            affectedUsers.put((String) row[0], (Long) row[1]);
+        }
+        return affectedUsers;
+    }
+
+    private void updateProjectTotals(Set<String> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts;
+        try {
+            counts = affectedUserSketches.countProjects(projectIds);
+        } catch (Exception e) {
+            log.warn("Failed to count project affected users: projects={}, cause={}", projectIds.size(), e.getMessage());
+            return;
+        }
+        counts.forEach((projectId, count) -> projectRepository.updateTotalUsersAffected(projectId, count.intValue()));
+    }
+
+    private boolean isUnscored(Error error) {
+        return error.getPriorityScore() == null || error.getPriorityScore().compareTo(BigDecimal.ZERO) == 0;
+    }
+
+    /**
+     * 재계산 대기 중인 에러 그룹 (마지막 URL과 합쳐진 발생 수)
+     */
+    private record DirtyError(String projectId, String url, long occurrences) {
+
+        private DirtyError merge(DirtyError later) {
+            return new DirtyError(projectId, later.url != null ? later.url : url, occurrences + later.occurrences);
+        }
+    }
+}
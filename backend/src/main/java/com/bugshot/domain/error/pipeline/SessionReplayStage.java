@@ -0,0 +1,38 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.replay.service.SessionReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 리플레이 저장 단계
+ * <p>
+ * PostIngestPipeline이 우선순위 계산 후 replayExecutor에서 스냅샷마다 실행합니다.
+ * 리플레이가 없거나 비활성화된 스냅샷은 파이프라인이 이 단계를 건너뜁니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionReplayStage {
+
+    private final SessionReplayService sessionReplayService;
+
+    public void apply(PostIngestSnapshot snapshot) {
+        String projectId = snapshot.projectId();
+        String occurrenceId = snapshot.occurrenceId();
+
+        log.debug("Saving session replay: projectId={}, occurrenceId={}", projectId, occurrenceId);
+
+        sessionReplayService.saveReplay(
+                projectId,
+                occurrenceId,
+                snapshot.sessionReplay()
+        );
+
+        log.info("Session replay saved: occurrenceId={}, eventsCount={}",
+                occurrenceId,
+                snapshot.sessionReplay().getEventsCount());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +20,68 @@ public interface ErrorOccurrenceRepository extends JpaRepository<ErrorOccurrence
 
     List<ErrorOccurrence> findByErrorIdOrderByOccurredAtDesc(String errorId);
 
+    /**
+     * 에러의 저장된 발생 수와 그중 샘플링으로 저장된 발생 수 (idx_error_id 사용)
+     * @return [storedCount, sampledCount] 한 행
+     */
+    @Query("""
+        SELECT COUNT(eo), COALESCE(SUM(CASE WHEN eo.sampleRate IS NOT NULL THEN 1 ELSE 0 END), 0)
+        FROM ErrorOccurrence eo
+        WHERE eo.error.id = :errorId
+        """)
+    List<Object[]> countStoredAndSampledByErrorId(@Param("errorId") String errorId);
+
     Optional<ErrorOccurrence> findFirstByErrorIdOrderByOccurredAtDesc(String errorId);
 
-    @Query("SELECT COUNT(DISTINCT eo.userIdentifier) FROM ErrorOccurrence eo WHERE eo.error.id = :errorId")
-    long countDistinctUsersByErrorId(@Param("errorId") String errorId);
+    /**
+     * 에러의 고유 사용자 목록 한 페이지 (영향받은 사용자 스케치 초기화용)
+     * - after 다음 값부터 정렬 순서대로 (keyset 페이징, 첫 페이지는 after = null)
+     */
+    @Query("SELECT DISTINCT eo.userIdentifier FROM ErrorOccurrence eo " +
+           "WHERE eo.error.id = :errorId AND eo.userIdentifier IS NOT NULL " +
+           "AND (:after IS NULL OR eo.userIdentifier > :after) " +
+           "ORDER BY eo.userIdentifier")
+    List<String> findDistinctUserIdentifiersByErrorId(@Param("errorId") String errorId,
+                                                      @Param("after") String after,
+                                                      Pageable pageable);
+
+    /**
+     * 프로젝트의 고유 사용자 목록 한 페이지 (영향받은 사용자 스케치 초기화용)
+     * - after 다음 값부터 정렬 순서대로 (keyset 페이징, 첫 페이지는 after = null)
+     */
+    @Query("SELECT DISTINCT eo.userIdentifier FROM ErrorOccurrence eo " +
+           "WHERE eo.error.project.id = :projectId AND eo.userIdentifier IS NOT NULL " +
+           "AND (:after IS NULL OR eo.userIdentifier > :after) " +
+           "ORDER BY eo.userIdentifier")
+    List<String> findDistinctUserIdentifiersByProjectId(@Param("projectId") String projectId,
+                                                        @Param("after") String after,
+                                                        Pageable pageable);
+
+    /**
+     * 여러 에러의 고유 사용자 수를 한 번에 조회 (Redis 스케치를 사용할 수 없을 때 대체)
+     * @param errorIds 에러 ID 목록
+     * @return [errorId, count] 형태의 결과 리스트
+     */
+    @Query("""
+        SELECT eo.error.id, COUNT(DISTINCT eo.userIdentifier)
+        FROM ErrorOccurrence eo
+        WHERE eo.error.id IN :errorIds
+        GROUP BY eo.error.id
+        """)
+    List<Object[]> countDistinctUsersByErrorIds(@Param("errorIds") Collection<String> errorIds);
+
+    /**
+     * 여러 에러의 가장 최근 발생 URL을 한 번에 조회 (idx_error_id 사용)
+     * @param errorIds 에러 ID 목록
+     * @return [errorId, url] 형태의 결과 리스트 (같은 시각의 발생이 여러 개면 중복 가능)
+     */
+    @Query("""
+        SELECT eo.error.id, eo.url
+        FROM ErrorOccurrence eo
+        WHERE eo.error.id IN :errorIds
+          AND eo.occurredAt = (SELECT MAX(o.occurredAt) FROM ErrorOccurrence o WHERE o.error.id = eo.error.id)
+        """)
+    List<Object[]> findLatestUrlsByErrorIds(@Param("errorIds") Collection<String> errorIds);
 
     @Query("SELECT eo FROM ErrorOccurrence eo WHERE eo.error.id = :errorId " +
            "AND eo.occurredAt >= :since " +
@@ -32,6 +91,10 @@ public interface ErrorOccurrenceRepository extends JpaRepository<ErrorOccurrence
 
     List<ErrorOccurrence> findBySessionId(String sessionId);
 
+    Optional<ErrorOccurrence> findByIdAndErrorProjectId(String id, String projectId);
+
+    Optional<ErrorOccurrence> findFirstBySessionIdAndErrorProjectIdOrderByOccurredAtDesc(String sessionId, String projectId);
+
     /**
      * 특정 기간 내 프로젝트들의 이벤트 수 조회 (월간 사용량 계산용)
      */
@@ -4,6 +4,7 @@ import com.bugshot.domain.error.entity.Error;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +16,57 @@ import java.util.Optional;
 @Repository
 public interface ErrorRepository extends JpaRepository<Error, String> {
 
-    Optional<Error> findByProjectIdAndErrorHash(String projectId, String errorHash);
+    /**
+     * 지문으로 그룹 ID와 우선순위 계산 여부만 조회 (엔티티를 로드하지 않음)
+     * <p>
+     * recency_boost는 우선순위를 계산할 때만 채워지므로 NULL이면 아직 한 번도 계산되지 않은 그룹입니다.
+     * </p>
+     *
+     * @return [id, recencyBoost] (없으면 빈 목록)
+     */
+    @Query("SELECT e.id, e.recencyBoost FROM Error e WHERE e.project.id = :projectId AND e.errorFingerprint = :fingerprint")
+    List<Object[]> findIdAndRecencyBoostByFingerprint(@Param("projectId") String projectId,
+                                                      @Param("fingerprint") byte[] fingerprint);
+
+    boolean existsByProjectIdAndErrorFingerprint(String projectId, byte[] errorFingerprint);
+
+    /**
+     * 에러 그룹 원자적 upsert
+     * <p>
+     * uk_error_project_fingerprint (project_id, error_fingerprint) 유니크 키를 기준으로
+     * 없으면 새 그룹을 생성하고, 있으면 발생 횟수를 DB에서 직접 증가시킵니다.
+     * 조회 후 저장(read-modify-write) 방식과 달리 동시 요청에서도 카운트가 유실되거나
+     * 그룹이 중복 생성되지 않습니다.
+     * </p>
+     *
+     * @return 1: 새 그룹 생성 (id로 넘긴 값이 그룹 ID), 2: 기존 그룹 갱신 (MySQL affected rows)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO errors (id, project_id, error_fingerprint, error_type, error_message,
+                            file_path, line_number, method_name, stack_trace,
+                            priority_score, severity, occurrence_count, affected_users_count, status,
+                            first_seen_at, last_seen_at, created_at, updated_at)
+        VALUES (:id, :projectId, :errorFingerprint, :errorType, :errorMessage,
+                :filePath, :lineNumber, :methodName, :stackTrace,
+                0, 'MEDIUM', :count, 0, 'UNRESOLVED',
+                :now, :now, :now, :now)
+        ON DUPLICATE KEY UPDATE
+            occurrence_count = occurrence_count + :count,
+            last_seen_at = :now,
+            updated_at = :now
+        """, nativeQuery = true)
+    int upsertErrorGroup(@Param("id") String id,
+                         @Param("projectId") String projectId,
+                         @Param("errorFingerprint") byte[] errorFingerprint,
+                         @Param("errorType") String errorType,
+                         @Param("errorMessage") String errorMessage,
+                         @Param("filePath") String filePath,
+                         @Param("lineNumber") Integer lineNumber,
+                         @Param("methodName") String methodName,
+                         @Param("stackTrace") String stackTrace,
+                         @Param("count") int count,
+                         @Param("now") LocalDateTime now);
 
     Page<Error> findByProjectId(String projectId, Pageable pageable);
 
@@ -44,19 +95,6 @@ public interface ErrorRepository extends JpaRepository<Error, String> {
     List<Error> findRecentErrors(@Param("projectId") String projectId,
                                    @Param("since") LocalDateTime since);
 
-    /**
-     * 프로젝트의 총 영향받은 사용자 수 계산
-     * <p>
-     * 주의: 이 쿼리는 각 에러의 affectedUsersCount를 합산합니다.
-     * 실제 유니크 사용자 수와는 다를 수 있습니다 (에러 간 중복 사용자 존재 가능).
-     * </p>
-     *
-     * @param projectId 프로젝트 ID
-     * @return 총 영향받은 사용자 수 (null이면 0 반환)
-     */
-    @Query("SELECT COALESCE(SUM(e.affectedUsersCount), 0) FROM Error e WHERE e.project.id = :projectId")
-    long countTotalAffectedUsers(@Param("projectId") String projectId);
-
     // Find top errors by priority score
     List<Error> findTop10ByOrderByPriorityScoreDesc();
 
@@ -96,6 +134,14 @@ public interface ErrorRepository extends JpaRepository<Error, String> {
 
     Page<Error> findByProjectIdInAndStatus(List<String> projectIds, Error.ErrorStatus status, Pageable pageable);
 
+    /**
+     * 프로젝트 에러를 ID 순서로 커서 다음부터 조회 (keyset 페이지, 우선순위 일괄 재계산용)
+     */
+    @Query("SELECT e FROM Error e WHERE e.project.id = :projectId AND e.id > :afterId ORDER BY e.id")
+    List<Error> findChunkByProjectIdAfter(@Param("projectId") String projectId,
+                                          @Param("afterId") String afterId,
+                                          Pageable pageable);
+
     /**
      * 여러 프로젝트의 최근 에러 조회 (대시보드 통계용)
      */
@@ -0,0 +1,54 @@
+package com.bugshot.domain.error.repository;
+
+import com.bugshot.domain.error.entity.IngestOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface IngestOutboxRepository extends JpaRepository<IngestOutboxEvent, String> {
+
+    /**
+     * 처리 가능한 아웃박스 행을 잠그고 조회
+     * <p>
+     * 다른 노드가 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED) 여러 노드가 서로 다른 행을 병렬로 가져갑니다.
+     * 호출한 트랜잭션 안에서 {@link #lease}로 available_at을 미룬 뒤 커밋해야 합니다.
+     * </p>
+     */
+    @Query(value = """
+        SELECT * FROM ingest_outbox
+        WHERE available_at <= :now
+        ORDER BY available_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<IngestOutboxEvent> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 가져간 행을 lease 만료 시각까지 숨김 (릴레이가 죽으면 만료 후 다른 노드가 다시 가져감)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE IngestOutboxEvent o SET o.availableAt = :leaseUntil, o.attempts = o.attempts + 1 " +
+           "WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<String> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 일부 핸들러가 실패한 행을 재시도 시각으로 미룸
+     */
+    @Modifying
+    @Query("UPDATE IngestOutboxEvent o SET o.completedHandlers = :completedHandlers, o.availableAt = :retryAt " +
+           "WHERE o.id = :id")
+    int reschedule(@Param("id") String id,
+                   @Param("completedHandlers") int completedHandlers,
+                   @Param("retryAt") LocalDateTime retryAt);
+
+    @Modifying
+    @Query("DELETE FROM IngestOutboxEvent o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+}
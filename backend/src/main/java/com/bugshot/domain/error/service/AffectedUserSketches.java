@@ -0,0 +1,207 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영향받은 사용자 수 HyperLogLog 스케치 (Redis PFADD / PFCOUNT)
+ * <p>
+ * 에러 그룹마다 COUNT(DISTINCT user_identifier)로 발생 전체를 다시 세던 것을, 수집 시 스케치에 사용자만 추가하고
+ * PFCOUNT로 읽는 O(1) 연산으로 바꿉니다. 프로젝트 스케치는 소속 에러 스케치의 합집합이므로
+ * 여러 에러를 겪은 사용자를 한 번만 셉니다. (에러별 수를 합산하던 기존 방식은 중복 집계)
+ * </p>
+ *
+ * <pre>
+ * - 키: bugshot:users:error:{errorId}, bugshot:users:project:{projectId}
+ *   (에러 추가 시 프로젝트 스케치에도 같이 추가 = 에러 스케치들의 PFMERGE와 동일한 결과)
+ * - 표준 오차 약 0.81%, 키당 최대 12KB (사용자가 적으면 sparse 표현으로 훨씬 작음)
+ * - 추가 시 TTL 갱신 (sketch-ttl-days) - 오래 발생하지 않은 그룹의 키는 만료
+ * - 키가 없으면 (배포 이전 데이터, 만료) 발생 테이블의 고유 사용자로 한 번 채운 뒤 추가
+ *   (SEED_CHUNK_SIZE씩 keyset 페이징으로 읽어 바로 PFADD - 큰 프로젝트도 한 페이지만 메모리에 둠)
+ * - 채우기/추가가 실패한 키는 일부 사용자가 빠진 채 남을 수 있으므로 재채움 대상으로 표시
+ *   → 다음 추가 때 키가 있어도 발생 테이블에서 다시 채움 (PFADD는 합집합이라 삭제 없이 덮어 채움)
+ * - 재채움 표시는 노드 로컬 메모리 (다른 노드가 먼저 추가하면 그 노드는 모름)
+ * - Redis 장애 시 예외를 그대로 던짐 → 호출 측이 SQL 집계로 대체
+ * - 메트릭: bugshot.ingest.affected_users.seeded (DB에서 채운 스케치 수) / .stale (재채움 대기 키 수)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class AffectedUserSketches {
+
+    private static final String ERROR_KEY_PREFIX = "bugshot:users:error:";
+    private static final String PROJECT_KEY_PREFIX = "bugshot:users:project:";
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ErrorOccurrenceRepository occurrenceRepository;
+    private final Duration ttl;
+
+    private final Set<String> staleKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter seededCounter;
+
+    public AffectedUserSketches(StringRedisTemplate redisTemplate,
+                                ErrorOccurrenceRepository occurrenceRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.ingest.affected-users.sketch-ttl-days:90}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.occurrenceRepository = occurrenceRepository;
+        this.ttl = Duration.ofDays(ttlDays);
+
+        this.seededCounter = Counter.builder("bugshot.ingest.affected_users.seeded")
+                .description("Affected-user sketches rebuilt from stored occurrences")
+                .register(meterRegistry);
+        Gauge.builder("bugshot.ingest.affected_users.stale", staleKeys, Set::size)
+                .description("Affected-user sketches waiting to be reseeded after a failed add")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수집된 발생의 사용자 추가 (user identifier가 없는 발생은 세지 않음)
+     */
+    public void add(Collection<UserHit> hits) {
+        Map<String, Set<String>> usersByKey = new LinkedHashMap<>();
+        for (UserHit hit : hits) {
+            if (hit.userIdentifier() == null) {
+                continue;
+            }
+            usersByKey.computeIfAbsent(errorKey(hit.errorId()), k -> new LinkedHashSet<>()).add(hit.userIdentifier());
+            usersByKey.computeIfAbsent(projectKey(hit.projectId()), k -> new LinkedHashSet<>()).add(hit.userIdentifier());
+        }
+        if (usersByKey.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(usersByKey.keySet());
+        try {
+            seedMissing(keys);
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                usersByKey.forEach((key, users) -> {
+                    redis.pfAdd(key, users.toArray(String[]::new));
+                    redis.expire(key, ttl.toSeconds());
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 일부만 반영됐을 수 있음 - 발생은 이미 저장돼 있으므로 다음 추가 때 발생 테이블에서 다시 채움
+            staleKeys.addAll(keys);
+            throw e;
+        }
+    }
+
+    /**
+     * 에러별 추정 사용자 수 (스케치가 없는 에러는 0)
+     */
+    public Map<String, Long> countErrors(Collection<String> errorIds) {
+        return count(errorIds, ERROR_KEY_PREFIX);
+    }
+
+    /**
+     * 프로젝트별 추정 고유 사용자 수
+     */
+    public Map<String, Long> countProjects(Collection<String> projectIds) {
+        return count(projectIds, PROJECT_KEY_PREFIX);
+    }
+
+    private Map<String, Long> count(Collection<String> ids, String prefix) {
+        List<String> ordered = new ArrayList<>(ids);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            ordered.forEach(id -> redis.pfCount(prefix + id));
+            return null;
+        });
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            counts.put(ordered.get(i), (Long) results.get(i));
+        }
+        return counts;
+    }
+
+    /**
+     * 키가 없거나 재채움 대상인 스케치를 발생 테이블의 고유 사용자로 채움
+     */
+    private void seedMissing(List<String> keys) {
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            keys.forEach(redis::exists);
+            return null;
+        });
+
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            if (Boolean.TRUE.equals(exists.get(i)) && !staleKeys.contains(key)) {
+                continue;
+            }
+            long users = seed(key);
+            staleKeys.remove(key);
+            seededCounter.increment();
+            log.debug("Affected-user sketch seeded: key={}, users={}", key, users);
+        }
+    }
+
+    /**
+     * 발생 테이블의 고유 사용자를 페이지 단위로 읽어 스케치에 추가
+     *
+     * @return 추가한 사용자 수
+     */
+    private long seed(String key) {
+        boolean errorKey = key.startsWith(ERROR_KEY_PREFIX);
+        String id = key.substring(errorKey ? ERROR_KEY_PREFIX.length() : PROJECT_KEY_PREFIX.length());
+        Pageable page = PageRequest.of(0, SEED_CHUNK_SIZE);
+
+        long seeded = 0;
+        String after = null;
+        while (true) {
+            List<String> users = errorKey
+                    ? occurrenceRepository.findDistinctUserIdentifiersByErrorId(id, after, page)
+                    : occurrenceRepository.findDistinctUserIdentifiersByProjectId(id, after, page);
+            if (users.isEmpty()) {
+                return seeded;
+            }
+            redisTemplate.opsForHyperLogLog().add(key, users.toArray(String[]::new));
+            seeded += users.size();
+            if (users.size() < SEED_CHUNK_SIZE) {
+                return seeded;
+            }
+            after = users.get(users.size() - 1);
+        }
+    }
+
+    private String errorKey(String errorId) {
+        return ERROR_KEY_PREFIX + errorId;
+    }
+
+    private String projectKey(String projectId) {
+        return PROJECT_KEY_PREFIX + projectId;
+    }
+
+    /**
+     * 발생 한 건의 사용자
+     */
+    public record UserHit(String projectId, String errorId, String userIdentifier) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.entity.ErrorFingerprint;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (프로젝트, 지문) → 에러 그룹 ID 로컬 캐시
+ * <p>
+ * errors.id는 UUID 문자열이라 upsert에서 LAST_INSERT_ID(id)로 기존 행의 ID를 돌려받을 수 없습니다.
+ * 그룹 ID는 한 번 정해지면 바뀌지 않으므로(그룹 단위 삭제 없음, 프로젝트 삭제 시 API 키도 무효)
+ * 노드가 처음 만난 그룹만 ID를 조회하고 이후에는 upsert 한 번으로 끝냅니다.
+ * </p>
+ *
+ * <pre>
+ * - 이 노드가 INSERT한 그룹: 넣은 ID를 커밋 후 캐시
+ * - 다른 노드가 만든 그룹: 처음 한 번만 ID 조회 후 커밋 후 캐시
+ * - 롤백되면 캐시하지 않음 (만료 없는 캐시에 존재하지 않는 ID가 남으면 이후 발생이 모두 FK 오류)
+ * - 메트릭: cache.* (name=errorGroupId)
+ * </pre>
+ */
+@Component
+public class ErrorGroupIdCache {
+
+    private final Cache<GroupKey, String> cache;
+
+    public ErrorGroupIdCache(MeterRegistry meterRegistry,
+                             @Value("${app.ingest.group-id-cache.maximum-size:100000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "errorGroupId");
+    }
+
+    /**
+     * @return 캐시된 그룹 ID (없으면 null)
+     */
+    public String get(String projectId, ErrorFingerprint fingerprint) {
+        return cache.getIfPresent(new GroupKey(projectId, fingerprint));
+    }
+
+    /**
+     * 그룹 ID 캐시 (트랜잭션 안이면 커밋 후, 아니면 바로)
+     */
+    public void putAfterCommit(String projectId, ErrorFingerprint fingerprint, String errorId) {
+        GroupKey key = new GroupKey(projectId, fingerprint);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(key, errorId);
+                }
+            });
+        } else {
+            cache.put(key, errorId);
+        }
+    }
+
+    private record GroupKey(String projectId, ErrorFingerprint fingerprint) {
+    }
+}
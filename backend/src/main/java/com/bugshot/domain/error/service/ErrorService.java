@@ -1,20 +1,38 @@
 package com.bugshot.domain.error.service;
 
+import com.bugshot.domain.error.dto.BatchIngestResponse;
+import com.bugshot.domain.error.dto.ErrorOccurrenceResponse;
+import com.bugshot.domain.error.dto.ErrorResponse;
 import com.bugshot.domain.error.dto.IngestRequest;
 import com.bugshot.domain.error.dto.IngestResponse;
 import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.error.entity.ErrorFingerprint;
 import com.bugshot.domain.error.entity.ErrorOccurrence;
-import com.bugshot.domain.error.event.ErrorIngestedEvent;
+import com.bugshot.domain.error.entity.IngestOutboxEvent;
 import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
 import com.bugshot.domain.error.repository.ErrorRepository;
-import com.bugshot.domain.project.entity.Project;
-import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.domain.error.repository.IngestOutboxRepository;
+import com.bugshot.domain.project.dto.ProjectSnapshot;
+import com.bugshot.domain.project.service.ProjectApiKeyCache;
+import com.bugshot.global.counter.CounterAggregator;
+import com.bugshot.global.counter.CounterType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -23,55 +41,318 @@ public class ErrorService {
 
     private final ErrorRepository errorRepository;
     private final ErrorOccurrenceRepository occurrenceRepository;
-    private final ProjectRepository projectRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectApiKeyCache projectApiKeyCache;
+    private final IngestOutboxRepository outboxRepository;
+    private final CounterAggregator counterAggregator;
+    private final IngestDeduplicator ingestDeduplicator;
+    private final SpikeProtector spikeProtector;
+    private final StackFingerprinter stackFingerprinter;
+    private final ErrorGroupIdCache errorGroupIdCache;
+    private final UserAgentParser userAgentParser;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 재전송된 이벤트면 처음 수집 결과 반환
+     * <p>
+     * 트랜잭션 밖에서 실행되므로 중복 이벤트는 DB 커넥션을 잡지 않고 응답합니다.
+     * (eventId가 없는 요청은 항상 empty)
+     * </p>
+     */
+    public Optional<IngestResponse> findDuplicate(IngestRequest request) {
+        if (request.getEventId() == null) {
+            return Optional.empty();
+        }
+        ProjectSnapshot project = projectApiKeyCache.resolve(request.getApiKey());
+        return ingestDeduplicator.findDuplicate(project.id(), request.getEventId());
+    }
 
     @Transactional
     public IngestResponse ingestError(IngestRequest request) {
         log.info("Ingesting error: type={}, url={}", request.getError().getType(), request.getContext().getUrl());
 
-        // 1. Validate API key and get project
-        Project project = projectRepository.findByApiKey(request.getApiKey())
-            .orElseThrow(() -> new IllegalArgumentException("Invalid API key"));
+        // 1. Validate API key and get project (로컬 캐시, 잘못된 키도 음성 캐시)
+        ProjectSnapshot project = projectApiKeyCache.resolve(request.getApiKey());
+
+        // 2. Calculate error fingerprint for grouping (정규화된 스택 프레임 기반)
+        ErrorFingerprint fingerprint = stackFingerprinter.fingerprint(project.id(), request.getError());
+
+        // 3. Upsert error group (INSERT ... ON DUPLICATE KEY UPDATE)
+        UpsertedGroup group = upsertErrorGroup(project, fingerprint, request.getError(), 1);
+        Error error = group.error();
+
+        // 4. Create error occurrence (프로젝트 급증 중에는 샘플링 - 발생 횟수는 위 upsert에서 이미 반영됨)
+        //    새 그룹이나 아직 우선순위가 계산되지 않은 그룹은 첫 알림/우선순위 계산을 위해 항상 저장
+        SpikeProtector.SampleDecision sample = spikeProtector.admit(project.id());
+        boolean firstOccurrence = requiresFirstOccurrence(group);
+        ErrorOccurrence occurrence = null;
+        if (firstOccurrence || sample.stored()) {
+            occurrence = occurrenceRepository.save(buildOccurrence(error, request, sample.sampleRate()));
+        }
+        String occurrenceId = occurrence != null ? occurrence.getId() : null;
+
+        // 5. Update project stats (주기적으로 배치 반영)
+        counterAggregator.increment(CounterType.PROJECT_TOTAL_ERRORS, project.id());
+
+        // 재전송 대비 결과 기록 (커밋 후)
+        ingestDeduplicator.remember(project.id(), request.getEventId(), error.getId(), occurrenceId);
+
+        // 6. 후속 작업을 아웃박스에 기록 - 같은 트랜잭션으로 커밋 (샘플링으로 저장하지 않은 이벤트는 제외)
+        // IngestOutboxRelay가 커밋된 행을 꺼내 PostIngestPipeline에서 순서대로 처리:
+        // - PriorityStage: 우선순위 계산
+        // - SessionReplayStage: 세션 리플레이 저장
+        // - NotificationStage: 알림 전송
+        if (occurrence != null) {
+            outboxRepository.save(IngestOutboxEvent.of(project, error, occurrence, request));
+        }
+
+        return IngestResponse.success(error.getId(), occurrenceId);
+    }
+
+    /**
+     * 배치 수집 - 여러 이벤트를 하나의 트랜잭션에서 처리
+     * <p>
+     * 이벤트를 (프로젝트, 에러 해시) 단위로 묶어 그룹당 한 번만 upsert하고,
+     * ErrorOccurrence는 saveAll로 모아서 JDBC 배치 insert 합니다.
+     * 에러 폭주 시 같은 예외가 수천 건 들어와도 그룹 수만큼만 에러 행을 갱신합니다.
+     * </p>
+     *
+     * <pre>
+     * - 트랜잭션 밖: 프로젝트 조회, 중복 eventId 확인 (Redis MGET 한 번), 핑거프린트 그룹핑
+     * - 트랜잭션 안: upsert, occurrence/아웃박스 저장만 (Redis 왕복 동안 DB 커넥션을 잡지 않음)
+     * </pre>
+     *
+     * @param requests 검증을 통과한 수집 요청 목록
+     * @return 저장/거부 건수와 그룹 ID 목록
+     */
+    public BatchIngestResponse ingestBatch(List<IngestRequest> requests) {
+        // 1. API 키별 프로젝트를 한 번에 조회 (캐시에 없는 키만 DB 조회)
+        Set<String> apiKeys = requests.stream()
+            .map(IngestRequest::getApiKey)
+            .collect(Collectors.toSet());
+        Map<String, ProjectSnapshot> projectsByApiKey = projectApiKeyCache.resolveAll(apiKeys);
+
+        // 2. 알 수 없는 키와 배치 안의 중복 eventId 제외
+        List<IngestRequest> candidates = new ArrayList<>();
+        Set<IngestDeduplicator.EventRef> batchEvents = new HashSet<>();
+        int rejected = 0;
+        int duplicates = 0;
+        for (IngestRequest request : requests) {
+            ProjectSnapshot project = projectsByApiKey.get(request.getApiKey());
+            if (project == null) {
+                rejected++;
+                continue;
+            }
+            if (request.getEventId() != null
+                    && !batchEvents.add(new IngestDeduplicator.EventRef(project.id(), request.getEventId()))) {
+                duplicates++;
+                continue;
+            }
+            candidates.add(request);
+        }
+
+        // 3. 이미 수집된 eventId를 한 번에 확인하고, (projectId, fingerprint) 기준으로 그룹핑 - 요청 순서 유지
+        Set<IngestDeduplicator.EventRef> ingested = ingestDeduplicator.findDuplicates(batchEvents);
+        Map<ErrorGroupKey, List<IngestRequest>> groups = new LinkedHashMap<>();
+        for (IngestRequest request : candidates) {
+            ProjectSnapshot project = projectsByApiKey.get(request.getApiKey());
+            if (request.getEventId() != null
+                    && ingested.contains(new IngestDeduplicator.EventRef(project.id(), request.getEventId()))) {
+                duplicates++;
+                continue;
+            }
+            ErrorFingerprint fingerprint = stackFingerprinter.fingerprint(project.id(), request.getError());
+            groups.computeIfAbsent(new ErrorGroupKey(project, fingerprint), k -> new ArrayList<>()).add(request);
+        }
+
+        int rejectedCount = rejected;
+        int duplicateCount = duplicates;
+        return transactionTemplate.execute(status -> persistBatch(groups, rejectedCount, duplicateCount));
+    }
+
+    /**
+     * 그룹핑된 배치 저장 (ingestBatch의 트랜잭션 안에서 실행)
+     */
+    private BatchIngestResponse persistBatch(Map<ErrorGroupKey, List<IngestRequest>> groups,
+                                             int rejected, int duplicates) {
+        // 4. 그룹당 한 번 upsert로 발생 횟수를 한 번에 증가
+        List<ErrorOccurrence> occurrences = new ArrayList<>();
+        List<GroupRepresentative> representatives = new ArrayList<>();
+        List<IngestedEvent> ingestedEvents = new ArrayList<>();
+        Map<String, Integer> countsByProject = new LinkedHashMap<>();
+        List<String> errorIds = new ArrayList<>();
+        int accepted = 0;
+
+        for (Map.Entry<ErrorGroupKey, List<IngestRequest>> entry : groups.entrySet()) {
+            ProjectSnapshot project = entry.getKey().project();
+            ErrorFingerprint fingerprint = entry.getKey().fingerprint();
+            List<IngestRequest> group = entry.getValue();
+            IngestRequest first = group.get(0);
+
+            UpsertedGroup upserted = upsertErrorGroup(project, fingerprint, first.getError(), group.size());
+            Error error = upserted.error();
+            errorIds.add(error.getId());
+            accepted += group.size();
+
+            // occurrence는 급증 보호 샘플링을 통과한 이벤트만 저장
+            // (새 그룹이나 아직 우선순위가 계산되지 않은 그룹은 첫 이벤트를 항상 저장 → 아웃박스 행 보장)
+            // 리플레이가 있는 마지막 저장 이벤트를 그룹 대표로 사용 (없으면 마지막 저장 이벤트)
+            boolean firstOccurrence = requiresFirstOccurrence(upserted);
+            IngestRequest representative = null;
+            ErrorOccurrence representativeOccurrence = null;
+            for (IngestRequest request : group) {
+                SpikeProtector.SampleDecision sample = spikeProtector.admit(project.id());
+                ErrorOccurrence occurrence = null;
+                if (firstOccurrence || sample.stored()) {
+                    firstOccurrence = false;
+                    occurrence = buildOccurrence(error, request, sample.sampleRate());
+                    occurrences.add(occurrence);
+                    if (representative == null || representative.getSessionReplay() == null
+                            || request.getSessionReplay() != null) {
+                        representative = request;
+                        representativeOccurrence = occurrence;
+                    }
+                }
+                if (request.getEventId() != null) {
+                    ingestedEvents.add(new IngestedEvent(project.id(), request.getEventId(), error.getId(), occurrence));
+                }
+            }
+
+            countsByProject.merge(project.id(), group.size(), Integer::sum);
+            if (representative == null) {
+                continue;
+            }
+            representatives.add(new GroupRepresentative(project, error, representativeOccurrence, representative));
+        }
+
+        // 5. Occurrence 일괄 저장 (hibernate.jdbc.batch_size 단위로 배치 insert)
+        occurrenceRepository.saveAll(occurrences);
 
-        // 2. Calculate error hash for grouping
-        String errorHash = Error.calculateErrorHash(
-            request.getError().getType(),
-            request.getError().getFile(),
-            request.getError().getLine()
+        // 재전송 대비 결과 기록 (커밋 후, occurrence ID는 저장 시 생성됨)
+        for (IngestedEvent ingested : ingestedEvents) {
+            ingestDeduplicator.remember(ingested.projectId(), ingested.eventId(), ingested.errorId(),
+                ingested.occurrence() != null ? ingested.occurrence().getId() : null);
+        }
+
+        // 6. 프로젝트 통계는 프로젝트당 한 번만 누적 (주기적으로 배치 반영)
+        countsByProject.forEach((projectId, count) ->
+            counterAggregator.add(CounterType.PROJECT_TOTAL_ERRORS, projectId, count));
+
+        // 7. 그룹당 하나의 아웃박스 행 기록 - 폭주 시 알림/우선순위 계산도 그룹 수만큼만 실행
+        outboxRepository.saveAll(representatives.stream()
+            .map(r -> IngestOutboxEvent.of(r.project(), r.error(), r.occurrence(), r.request()))
+            .toList());
+
+        log.info("Batch ingested: accepted={}, stored={}, rejected={}, duplicates={}, groups={}",
+            accepted, occurrences.size(), rejected, duplicates, groups.size());
+
+        return BatchIngestResponse.of(accepted, rejected, duplicates, errorIds);
+    }
+
+    /**
+     * 배치 그룹핑 키
+     */
+    private record ErrorGroupKey(ProjectSnapshot project, ErrorFingerprint fingerprint) {
+    }
+
+    /**
+     * upsert 결과 (created: 이번 upsert로 새로 만든 그룹, unscored: ID를 조회한 기존 그룹이 아직 우선순위 미계산)
+     */
+    private record UpsertedGroup(Error error, boolean created, boolean unscored) {
+    }
+
+    /**
+     * 그룹의 후속 작업 대상 (리플레이가 있는 마지막 저장 이벤트)
+     */
+    private record GroupRepresentative(ProjectSnapshot project, Error error, ErrorOccurrence occurrence,
+                                       IngestRequest request) {
+    }
+
+    /**
+     * eventId가 있는 배치 이벤트의 수집 결과 (샘플링으로 저장하지 않았으면 occurrence는 null)
+     */
+    private record IngestedEvent(String projectId, String eventId, String errorId, ErrorOccurrence occurrence) {
+    }
+
+    /**
+     * 에러 그룹 upsert 후 그룹 참조 반환
+     * <p>
+     * 생성/증가는 단일 SQL 문으로 원자적으로 처리되므로 동시 수집에서도
+     * occurrenceCount가 유실되지 않고 그룹이 중복 생성되지 않습니다.
+     * 그룹 ID는 새로 만든 경우 넘긴 ID, 기존 그룹이면 ErrorGroupIdCache에서 얻고
+     * (노드가 처음 만난 그룹만 ID 조회), 엔티티는 로드하지 않고 참조(프록시)만 반환합니다.
+     * 캐시에는 커밋 후에만 넣으므로 롤백된 그룹 ID가 캐시에 남지 않습니다.
+     * 호출자는 ID와 연관관계 설정에만 사용합니다.
+     * </p>
+     *
+     * @param count 이번에 추가되는 발생 횟수 (배치 수집 시 그룹 크기)
+     */
+    private UpsertedGroup upsertErrorGroup(ProjectSnapshot project, ErrorFingerprint fingerprint,
+                                   IngestRequest.ErrorInfo errorInfo, int count) {
+        byte[] fingerprintBytes = fingerprint.toBytes();
+        String newId = UUID.randomUUID().toString();
+        int affected = errorRepository.upsertErrorGroup(
+            newId,
+            project.id(),
+            fingerprintBytes,
+            errorInfo.getType(),
+            errorInfo.getMessage(),
+            errorInfo.getFile(),
+            errorInfo.getLine(),
+            errorInfo.getMethod(),
+            errorInfo.getStackTrace(),
+            count,
+            LocalDateTime.now()
         );
 
-        // 3. Find existing error or create new one
-        Error error = errorRepository.findByProjectIdAndErrorHash(project.getId(), errorHash)
-            .map(existing -> {
-                log.info("Found existing error group: id={}", existing.getId());
-                existing.incrementOccurrence();
-                return existing;
-            })
-            .orElseGet(() -> {
-                log.info("Creating new error group: hash={}", errorHash);
-                Error newError = Error.builder()
-                    .project(project)
-                    .errorHash(errorHash)
-                    .errorType(request.getError().getType())
-                    .errorMessage(request.getError().getMessage())
-                    .filePath(request.getError().getFile())
-                    .lineNumber(request.getError().getLine())
-                    .methodName(request.getError().getMethod())
-                    .stackTrace(request.getError().getStackTrace())
-                    .build();
-                return newError;
-            });
-
-        error = errorRepository.save(error);
-
-        // 4. Create error occurrence
+        boolean created = affected == 1;
+        boolean unscored = false;
+        String errorId;
+        if (created) {
+            log.info("Created new error group: fingerprint={}", fingerprint);
+            errorId = newId;
+            errorGroupIdCache.putAfterCommit(project.id(), fingerprint, errorId);
+        } else {
+            errorId = errorGroupIdCache.get(project.id(), fingerprint);
+            if (errorId == null) {
+                Object[] row = errorRepository.findIdAndRecencyBoostByFingerprint(project.id(), fingerprintBytes).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Error group not found after upsert: " + fingerprint));
+                errorId = (String) row[0];
+                unscored = row[1] == null;
+                errorGroupIdCache.putAfterCommit(project.id(), fingerprint, errorId);
+            }
+        }
+        return new UpsertedGroup(errorRepository.getReferenceById(errorId), created, unscored);
+    }
+
+    /**
+     * 급증 샘플링과 관계없이 occurrence를 저장해야 하는지
+     * <p>
+     * 알림과 우선순위 계산은 저장된 occurrence의 아웃박스 행으로만 실행되므로,
+     * 새 그룹이나 아직 우선순위가 한 번도 계산되지 않은 그룹의 첫 이벤트가 샘플링으로 빠지면
+     * 첫 발생 알림이 나가지 않고 점수도 0으로 남습니다. 이후 이벤트만 샘플링합니다.
+     * 미계산 그룹은 노드가 ID를 처음 조회할 때만 알 수 있으므로, 그 트랜잭션이 롤백되면 다음 이벤트가 다시 조회해 저장합니다.
+     * </p>
+     */
+    private boolean requiresFirstOccurrence(UpsertedGroup group) {
+        return group.created() || group.unscored();
+    }
+
+    private ErrorOccurrence buildOccurrence(Error error, IngestRequest request, double sampleRate) {
         // Extract browser/os/device from SDK browserInfo/deviceInfo objects
         String browser = extractBrowser(request.getContext());
         String os = extractOs(request.getContext());
         String device = extractDevice(request.getContext());
 
-        ErrorOccurrence occurrence = ErrorOccurrence.builder()
+        // SDK가 보내지 않은 항목은 User-Agent 파싱 결과로 채움 (Java SDK 등)
+        if (browser == null || os == null || device == null) {
+            UserAgentParser.UserAgentInfo parsed = userAgentParser.parse(request.getContext().getUserAgent());
+            browser = browser != null ? browser : parsed.browser();
+            os = os != null ? os : parsed.os();
+            device = device != null ? device : parsed.device();
+        }
+
+        return ErrorOccurrence.builder()
             .error(error)
             .url(request.getContext().getUrl())
             .httpMethod(request.getContext().getHttpMethod())
@@ -85,22 +366,8 @@ public class ErrorService {
             .requestHeaders(request.getContext().getHeaders())
             .requestParams(request.getContext().getParams())
             .customData(request.getContext().getCustomData())
+            .sampleRate(sampleRate < 1.0 ? sampleRate : null)
             .build();
-
-        occurrence = occurrenceRepository.save(occurrence);
-
-        // 5. Update project stats
-        project.incrementErrorCount();
-        projectRepository.save(project);
-
-        // 6. 이벤트 발행 - Observer Pattern 적용
-        // 리스너들이 비동기로 다음 작업들을 처리:
-        // - PriorityCalculationListener: 우선순위 계산
-        // - SessionReplayListener: 세션 리플레이 저장
-        // - NotificationListener: 알림 전송
-        publishErrorIngestedEvent(project, error, occurrence, request);
-
-        return IngestResponse.success(error.getId());
     }
 
 
@@ -147,33 +414,29 @@ public class ErrorService {
         return null;
     }
 
+    @Transactional(readOnly = true)
+    public Error getError(String errorId) {
+        return errorRepository.findById(errorId)
+            .orElseThrow(() -> new IllegalArgumentException("Error not found: " + errorId));
+    }
+
     /**
-     * ErrorIngestedEvent 발행
-     * <p>
-     * Observer Pattern: 에러 수집 완료 시 이벤트를 발행하여
-     * 여러 리스너들이 독립적으로 후속 작업을 처리하도록 합니다.
-     * </p>
+     * 에러 상세 조회 (저장된/샘플링된 발생 수 포함)
      */
-    private void publishErrorIngestedEvent(Project project, Error error,
-                                            ErrorOccurrence occurrence, IngestRequest request) {
-        ErrorIngestedEvent event = new ErrorIngestedEvent(
-                this,
-                project,
-                error,
-                occurrence,
-                request.getContext().getUrl(),
-                request.getSessionReplay(),
-                project.getSessionReplayEnabled()
-        );
-
-        eventPublisher.publishEvent(event);
-        log.debug("ErrorIngestedEvent published: {}", event);
+    @Transactional(readOnly = true)
+    public ErrorResponse getErrorDetail(String errorId) {
+        Error error = getError(errorId);
+        Object[] counts = occurrenceRepository.countStoredAndSampledByErrorId(errorId).get(0);
+        return ErrorResponse.from(error, ((Number) counts[0]).longValue(), ((Number) counts[1]).longValue());
     }
 
+    /**
+     * 에러의 저장된 발생 목록 (최신순, 각 발생의 샘플링 비율 포함)
+     */
     @Transactional(readOnly = true)
-    public Error getError(String errorId) {
-        return errorRepository.findById(errorId)
-            .orElseThrow(() -> new IllegalArgumentException("Error not found: " + errorId));
+    public Page<ErrorOccurrenceResponse> getOccurrences(String errorId, Pageable pageable) {
+        getError(errorId);
+        return occurrenceRepository.findByErrorId(errorId, pageable).map(ErrorOccurrenceResponse::from);
     }
 
     @Transactional
@@ -199,46 +462,4 @@ public class ErrorService {
         errorRepository.save(error);
         log.info("Error reopened: id={}", errorId);
     }
-
-    /**
-     * 사용자의 모든 에러 우선순위 일괄 재계산
-     */
-    @Transactional
-    public int recalculateAllPriorities(String userId) {
-        // 사용자의 모든 프로젝트 조회
-        List<String> projectIds = projectRepository.findByUserId(userId)
-                .stream()
-                .map(com.bugshot.domain.project.entity.Project::getId)
-                .toList();
-
-        if (projectIds.isEmpty()) {
-            return 0;
-        }
-
-        // 모든 에러 조회
-        List<Error> allErrors = errorRepository.findByProjectIdIn(
-                projectIds,
-                org.springframework.data.domain.PageRequest.of(0, Integer.MAX_VALUE)
-        ).getContent();
-
-        int updatedCount = 0;
-        for (Error error : allErrors) {
-            // 영향받은 사용자 수 재계산
-            long affectedUsers = occurrenceRepository.countDistinctUsersByErrorId(error.getId());
-            error.updateAffectedUsersCount((int) affectedUsers);
-
-            // 가장 최근 occurrence의 URL 가져오기
-            String url = occurrenceRepository.findFirstByErrorIdOrderByOccurredAtDesc(error.getId())
-                    .map(occ -> occ.getUrl())
-                    .orElse(null);
-
-            // 우선순위 재계산
-            error.calculatePriority(url);
-            errorRepository.save(error);
-            updatedCount++;
-        }
-
-        log.info("Recalculated priorities for {} errors (userId: {})", updatedCount, userId);
-        return updatedCount;
-    }
 }
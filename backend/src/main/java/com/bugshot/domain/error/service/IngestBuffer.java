@@ -0,0 +1,274 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.dto.IngestRequest;
+import com.bugshot.global.config.ErrorGroupKeyMigration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind 수집 버퍼
+ * <p>
+ * app.ingest.mode=buffered 일 때 IngestController는 검증만 마친 요청을 이 버퍼에 넣고
+ * 바로 202를 반환합니다. 소수의 writer 스레드가 버퍼를 배치 단위
+ * (batch-size개 또는 flush-interval 경과 시)로 꺼내 {@link ErrorService#ingestBatch}로 저장합니다.
+ * </p>
+ *
+ * <pre>
+ * - 버퍼는 고정 크기(ArrayBlockingQueue)라 가득 차면 offer가 실패 → 컨트롤러가 429 반환
+ * - 종료 시 writer가 남은 요청을 모두 flush한 뒤 종료
+ * - 일시적 DB 오류(락 타임아웃, 커넥션 획득 실패 등)는 retry-attempts회까지 재시도
+ * - 그 밖의 실패는 배치를 반으로 나눠 다시 저장 → 문제 이벤트 하나만 버림 (이미 202로 응답한 요청이므로)
+ * - 메트릭: bugshot.ingest.buffer.depth / .batch.size / .flush / .rejected / .dropped
+ * </pre>
+ */
+@Component
+@DependsOn(ErrorGroupKeyMigration.BEAN_NAME)
+@Slf4j
+public class IngestBuffer {
+
+    private static final String MODE_BUFFERED = "buffered";
+
+    private final ErrorService errorService;
+    private final boolean enabled;
+    private final BlockingQueue<IngestRequest> queue;
+    private final int writerThreads;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int retryAttempts;
+    private final long retryBackoffMs;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean running;
+
+    public IngestBuffer(ErrorService errorService,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.ingest.mode:sync}") String mode,
+                        @Value("${app.ingest.buffer.capacity:10000}") int capacity,
+                        @Value("${app.ingest.buffer.writer-threads:2}") int writerThreads,
+                        @Value("${app.ingest.buffer.batch-size:200}") int batchSize,
+                        @Value("${app.ingest.buffer.flush-interval-ms:200}") long flushIntervalMs,
+                        @Value("${app.ingest.buffer.retry-attempts:3}") int retryAttempts,
+                        @Value("${app.ingest.buffer.retry-backoff-ms:100}") long retryBackoffMs) {
+        this.errorService = errorService;
+        this.enabled = MODE_BUFFERED.equalsIgnoreCase(mode);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writerThreads = writerThreads;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.retryAttempts = Math.max(1, retryAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+
+        Gauge.builder("bugshot.ingest.buffer.depth", queue, BlockingQueue::size)
+                .description("Ingest requests waiting to be persisted")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("bugshot.ingest.buffer.batch.size")
+                .description("Requests persisted per flush")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("bugshot.ingest.buffer.flush")
+                .description("Time spent persisting one batch")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bugshot.ingest.buffer.rejected")
+                .description("Requests rejected because the buffer was full")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("bugshot.ingest.buffer.dropped")
+                .description("Buffered requests lost because they could not be persisted")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 버퍼에 요청 추가
+     *
+     * @return 버퍼가 가득 차서 넣지 못했으면 false (호출자는 429로 응답)
+     */
+    public boolean offer(IngestRequest request) {
+        boolean accepted = queue.offer(request);
+        if (!accepted) {
+            rejectedCounter.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * 배치 요청을 버퍼에 추가
+     * <p>
+     * 남은 용량이 부족하면 아무것도 넣지 않고 false를 반환합니다.
+     * (동시 offer로 일부만 들어가는 경우는 드물고, 그 경우 나머지는 rejected로 집계)
+     * </p>
+     */
+    public boolean offerAll(List<IngestRequest> requests) {
+        if (queue.remainingCapacity() < requests.size()) {
+            rejectedCounter.increment(requests.size());
+            return false;
+        }
+        boolean allAccepted = true;
+        for (IngestRequest request : requests) {
+            allAccepted &= offer(request);
+        }
+        return allAccepted;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < writerThreads; i++) {
+            Thread writer = new Thread(this::runWriter, "ingest-writer-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+        log.info("Ingest write-behind buffer started: capacity={}, writers={}, batchSize={}, flushInterval={}ms",
+                queue.remainingCapacity(), writerThreads, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 종료 시 writer들이 버퍼를 비울 때까지 대기
+     */
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        for (Thread writer : writers) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Ingest buffer stopped with {} requests not persisted", queue.size());
+        }
+        log.info("Ingest write-behind buffer stopped");
+    }
+
+    private void runWriter() {
+        List<IngestRequest> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * batchSize만큼 모이거나 첫 요청 이후 flushInterval이 지나면 반환
+     */
+    private void fillBatch(List<IngestRequest> batch) throws InterruptedException {
+        IngestRequest first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            IngestRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<IngestRequest> batch) {
+        batchSizeSummary.record(batch.size());
+        flushTimer.record(() -> persist(batch));
+    }
+
+    /**
+     * 배치 저장 - 일시적 오류는 재시도, 그 밖의 오류는 반으로 나눠 저장
+     * <p>
+     * ingestBatch는 트랜잭션 하나라 실패하면 배치 전체가 롤백되므로 같은 요청으로 다시 시도해도 안전합니다.
+     * 재시도 후에도 일시적 오류면(DB 장애) 나눠도 소용이 없으므로 배치를 버립니다.
+     * </p>
+     */
+    private void persist(List<IngestRequest> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                errorService.ingestBatch(batch);
+                return;
+            } catch (Exception e) {
+                boolean transientFailure = isTransient(e);
+                if (transientFailure && attempt < retryAttempts && backoff(attempt)) {
+                    log.warn("Retrying buffered ingest batch: size={}, attempt={}, cause={}",
+                            batch.size(), attempt, e.getMessage());
+                    continue;
+                }
+                if (transientFailure || batch.size() == 1) {
+                    droppedCounter.increment(batch.size());
+                    log.error("Failed to persist buffered ingest batch: size={}", batch.size(), e);
+                    return;
+                }
+                int half = batch.size() / 2;
+                log.warn("Splitting failed buffered ingest batch: size={}, cause={}", batch.size(), e.getMessage());
+                persist(batch.subList(0, half));
+                persist(batch.subList(half, batch.size()));
+                return;
+            }
+        }
+    }
+
+    private boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * @return 인터럽트되면 false (재시도 중단)
+     */
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.dto.IngestResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클라이언트 이벤트 ID 기반 중복 수집 방지
+ * <p>
+ * SDK가 타임아웃 후 같은 이벤트를 재전송하면 occurrenceCount가 두 번 증가하고 ErrorOccurrence가 중복 저장됩니다.
+ * 요청에 eventId가 있으면 저장 결과(errorId, occurrenceId)를 dedup 윈도우 동안 기억해 두고,
+ * 같은 eventId가 다시 오면 DB를 건드리지 않고 처음 결과를 그대로 돌려줍니다.
+ * </p>
+ *
+ * <pre>
+ * - 1차: 메모리 Bloom filter (현재/이전 두 세대를 window마다 교대) → 처음 보는 ID는 Redis 조회 없이 통과
+ * - 2차: Bloom filter가 "있을 수 있음"이라고 할 때만 Redis 키(bugshot:ingest:event:{projectId}:{eventId})로 확인
+ *        (배치는 후보를 모아 MGET 한 번으로 확인)
+ * - 기록은 트랜잭션 커밋 후 (롤백된 수집은 기억하지 않음)
+ * - Redis 장애 시 중복 검사를 건너뛰고 정상 수집 (fail-open)
+ * - 메트릭: bugshot.ingest.dedup.hits / .bloom.false_positives
+ * </pre>
+ *
+ * Bloom filter는 노드 로컬이므로 재전송이 다른 노드로 가면 중복을 걸러내지 못합니다.
+ * 동시에 도착한 같은 이벤트(첫 요청이 커밋되기 전)도 걸러내지 못합니다.
+ */
+@Component
+@Slf4j
+public class IngestDeduplicator {
+
+    private static final String KEY_PREFIX = "bugshot:ingest:event:";
+    private static final String VALUE_SEPARATOR = "/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+    private final int bitCount;
+    private final int hashCount;
+
+    private final Counter hitCounter;
+    private final Counter falsePositiveCounter;
+
+    private final ReentrantLock rotationLock = new ReentrantLock();
+    private volatile BloomGeneration current;
+    private volatile BloomGeneration previous;
+
+    public IngestDeduplicator(StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.ingest.dedup.window-seconds:300}") long windowSeconds,
+                              @Value("${app.ingest.dedup.expected-events:100000}") int expectedEvents,
+                              @Value("${app.ingest.dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = Duration.ofSeconds(windowSeconds).toMillis();
+
+        // 표준 Bloom filter 크기 공식: m = -n·ln(p) / (ln2)², k = (m/n)·ln2
+        double ln2 = Math.log(2);
+        this.bitCount = (int) Math.max(64, Math.ceil(-expectedEvents * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedEvents * ln2));
+
+        this.current = new BloomGeneration(bitCount, System.currentTimeMillis());
+        this.previous = new BloomGeneration(bitCount, 0L);
+
+        this.hitCounter = Counter.builder("bugshot.ingest.dedup.hits")
+                .description("Retried events answered from the dedup window without touching the database")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("bugshot.ingest.dedup.bloom.false_positives")
+                .description("Bloom filter hits that Redis did not confirm")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 수집된 이벤트인지 확인
+     *
+     * @return 중복이면 처음 수집 결과, 아니면 empty
+     */
+    public Optional<IngestResponse> findDuplicate(String projectId, String eventId) {
+        if (eventId == null) {
+            return Optional.empty();
+        }
+        String key = key(projectId, eventId);
+        long hash = hash64(key);
+        rotateIfExpired();
+        if (!current.mightContain(hash, hashCount) && !previous.mightContain(hash, hashCount)) {
+            return Optional.empty();
+        }
+
+        String stored;
+        try {
+            stored = redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("Dedup lookup failed, ingesting without dedup: {}", e.getMessage());
+            return Optional.empty();
+        }
+        if (stored == null) {
+            falsePositiveCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        int separator = stored.indexOf(VALUE_SEPARATOR);
+        String occurrenceId = stored.substring(separator + 1);
+        return Optional.of(IngestResponse.duplicate(stored.substring(0, separator),
+                occurrenceId.isEmpty() ? null : occurrenceId));
+    }
+
+    /**
+     * 배치에서 이미 수집된 이벤트를 한 번에 확인
+     * <p>
+     * Bloom filter를 통과한 후보만 모아 MGET 한 번으로 확인하므로 Redis 왕복은 배치당 최대 1회입니다.
+     * 배치 저장 트랜잭션을 열기 전에 호출합니다.
+     * </p>
+     *
+     * @return 중복으로 확인된 이벤트 (Redis 장애 시 empty)
+     */
+    public Set<EventRef> findDuplicates(Collection<EventRef> events) {
+        rotateIfExpired();
+        List<EventRef> candidates = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (EventRef event : events) {
+            String key = key(event.projectId(), event.eventId());
+            long hash = hash64(key);
+            if (current.mightContain(hash, hashCount) || previous.mightContain(hash, hashCount)) {
+                candidates.add(event);
+                keys.add(key);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> stored;
+        try {
+            stored = redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("Dedup batch lookup failed, ingesting without dedup: {}", e.getMessage());
+            return Set.of();
+        }
+        if (stored == null) {
+            return Set.of();
+        }
+
+        Set<EventRef> duplicates = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (stored.get(i) != null) {
+                duplicates.add(candidates.get(i));
+            }
+        }
+        hitCounter.increment(duplicates.size());
+        falsePositiveCounter.increment(candidates.size() - duplicates.size());
+        return duplicates;
+    }
+
+    /**
+     * 수집 결과 기록 (현재 트랜잭션이 있으면 커밋 후)
+     */
+    public void remember(String projectId, String eventId, String errorId, String occurrenceId) {
+        if (eventId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(projectId, eventId, errorId, occurrenceId);
+                }
+            });
+        } else {
+            store(projectId, eventId, errorId, occurrenceId);
+        }
+    }
+
+    private void store(String projectId, String eventId, String errorId, String occurrenceId) {
+        String key = key(projectId, eventId);
+        try {
+            String value = errorId + VALUE_SEPARATOR + (occurrenceId != null ? occurrenceId : "");
+            redisTemplate.opsForValue().set(key, value, Duration.ofMillis(windowMillis));
+        } catch (Exception e) {
+            log.warn("Failed to record ingested event id: {}", e.getMessage());
+            return;
+        }
+        rotateIfExpired();
+        current.put(hash64(key), hashCount);
+    }
+
+    /**
+     * window가 지나면 세대 교대 - 모든 ID는 최소 window, 최대 2·window 동안 Bloom filter에 남음
+     */
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - current.createdAt < windowMillis) {
+            return;
+        }
+        rotationLock.lock();
+        try {
+            if (now - current.createdAt >= windowMillis) {
+                previous = current;
+                current = new BloomGeneration(bitCount, now);
+            }
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    /**
+     * 배치 중복 확인 대상 이벤트
+     */
+    public record EventRef(String projectId, String eventId) {
+    }
+
+    private String key(String projectId, String eventId) {
+        return KEY_PREFIX + projectId + ":" + eventId;
+    }
+
+    /**
+     * 64비트 FNV-1a 후 finalizer로 비트 분산
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Bloom filter 한 세대 (lock-free, 비트 설정은 CAS)
+     */
+    private static final class BloomGeneration {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+        private final long createdAt;
+
+        private BloomGeneration(int bitCount, long createdAt) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.bitCount = bitCount;
+            this.createdAt = createdAt;
+        }
+
+        private void put(long hash, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+            }
+        }
+
+        private boolean mightContain(long hash, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
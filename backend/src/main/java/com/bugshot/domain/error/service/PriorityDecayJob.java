@@ -0,0 +1,140 @@
+package com.bugshot.domain.error.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 최신성 부스트 감쇠 작업
+ * <p>
+ * Error.calculatePriority는 마지막 발생 후 경과 시간에 따른 부스트(2.0 / 1.5 / 1.2 / 1.0)를 priority_score에 곱해 두지만,
+ * 점수는 수집 시에만 다시 계산되므로 더 이상 발생하지 않는 그룹이 부스트된 순위(idx_priority)에 계속 남습니다.
+ * 주기적으로 감쇠 경계를 넘은 그룹만 찾아 엔티티 로드 없이 SQL UPDATE로 다시 점수를 매깁니다.
+ * </p>
+ *
+ * <pre>
+ * - 점수 = 1 + X · boost 이므로 새 점수 = 1 + (점수 - 1) · 새 boost / 적용된 boost (recency_boost 컬럼)
+ * - 구간별 UPDATE: last_seen_at 범위 + recency_boost > 목표 부스트 → idx_recency_boost 범위 스캔
+ * - chunk-size 행씩 UPDATE ... LIMIT 반복 (자동 커밋, 긴 잠금 없음)
+ * - 심각도도 Error.determineSeverity와 같은 기준으로 CASE 식으로 다시 계산 (critical_page 컬럼 사용)
+ * - 여러 노드 중 하나만 실행: Redis 키(bugshot:lock:priority-decay)를 실행 주기만큼 선점
+ * - 메트릭: bugshot.ingest.priority.decay.rows (실행당 갱신 행 수)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class PriorityDecayJob {
+
+    private static final String LOCK_KEY = "bugshot:lock:priority-decay";
+
+    /**
+     * MySQL 단일 테이블 UPDATE는 SET 절을 왼쪽부터 평가하고 앞에서 바꾼 값을 뒤의 식에서 사용합니다.
+     * priority_score는 이전 recency_boost로 계산하고, severity는 새 priority_score로 계산한 뒤 recency_boost를 바꿉니다.
+     */
+    private static final String DECAY_SQL =
+            "UPDATE errors SET " +
+            "priority_score = ROUND(1 + (priority_score - 1) * ? / recency_boost, 2), " +
+            "severity = CASE " +
+            "  WHEN priority_score > 50 OR (COALESCE(critical_page, FALSE) AND priority_score > 20) THEN 'CRITICAL' " +
+            "  WHEN priority_score > 20 OR COALESCE(critical_page, FALSE) THEN 'HIGH' " +
+            "  WHEN priority_score > 8 THEN 'MEDIUM' " +
+            "  ELSE 'LOW' END, " +
+            "recency_boost = ? " +
+            "WHERE recency_boost > ? AND last_seen_at >= ? AND last_seen_at < ? " +
+            "LIMIT ?";
+
+    /**
+     * Error.calculateRecencyBoost의 구간 (마지막 발생 후 경과 시간 [fromHours, toHours) → boost)
+     */
+    private static final List<DecayTier> TIERS = List.of(
+            new DecayTier(1.5, 1, 6),
+            new DecayTier(1.2, 6, 24),
+            new DecayTier(1.0, 24, null)
+    );
+
+    private static final Timestamp EPOCH = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockDuration;
+    private final int chunkSize;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final DistributionSummary rowsSummary;
+
+    public PriorityDecayJob(JdbcTemplate jdbcTemplate,
+                            StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.ingest.priority.decay-interval-ms:300000}") long intervalMs,
+                            @Value("${app.ingest.priority.decay-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.lockDuration = Duration.ofMillis(intervalMs);
+        this.chunkSize = chunkSize;
+
+        this.rowsSummary = DistributionSummary.builder("bugshot.ingest.priority.decay.rows")
+                .description("Error groups re-scored by one recency decay run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ingest.priority.decay-interval-ms:300000}",
+               initialDelayString = "${app.ingest.priority.decay-interval-ms:300000}")
+    public void run() {
+        if (!acquireLock()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (DecayTier tier : TIERS) {
+            total += decay(tier, now);
+        }
+
+        rowsSummary.record(total);
+        log.info("Priority recency decay finished: rows={}, elapsedMs={}", total, System.currentTimeMillis() - started);
+    }
+
+    private int decay(DecayTier tier, LocalDateTime now) {
+        Timestamp to = Timestamp.valueOf(now.minusHours(tier.fromHours()));
+        Timestamp from = tier.toHours() != null ? Timestamp.valueOf(now.minusHours(tier.toHours())) : EPOCH;
+
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(DECAY_SQL, tier.boost(), tier.boost(), tier.boost(), from, to, chunkSize);
+            total += updated;
+        } while (updated == chunkSize);
+
+        if (total > 0) {
+            log.debug("Recency boost decayed: boost={}, rows={}", tier.boost(), total);
+        }
+        return total;
+    }
+
+    /**
+     * 이번 주기 실행권 선점 (해제하지 않고 만료시켜 다른 노드가 같은 주기에 다시 실행하지 않도록 함)
+     */
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, lockDuration));
+        } catch (Exception e) {
+            log.warn("Failed to acquire priority decay lock, skipping run: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private record DecayTier(double boost, int fromHours, Integer toHours) {
+    }
+}
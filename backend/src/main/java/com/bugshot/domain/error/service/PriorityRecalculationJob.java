@@ -0,0 +1,112 @@
+package com.bugshot.domain.error.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 우선순위 일괄 재계산 작업 상태 (메모리 보관)
+ * <p>
+ * 프로젝트별 커서(마지막으로 커밋된 에러 ID)를 기록해 두므로,
+ * 취소되거나 실패한 작업을 다시 시작하면 처음부터가 아니라 커서 다음 chunk부터 이어서 처리합니다.
+ * </p>
+ */
+@Getter
+public class PriorityRecalculationJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String userId;
+    private final Map<String, String> cursors = new ConcurrentHashMap<>();
+    private final Set<String> completedProjectIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger processedErrors = new AtomicInteger();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile boolean cancelRequested;
+    private volatile String failureMessage;
+    private volatile LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+
+    public PriorityRecalculationJob(String userId, Collection<String> projectIds) {
+        this.userId = userId;
+        projectIds.forEach(projectId -> cursors.put(projectId, ""));
+    }
+
+    public String cursor(String projectId) {
+        return cursors.get(projectId);
+    }
+
+    /**
+     * chunk 커밋 후 커서 전진
+     */
+    public void advance(String projectId, String lastErrorId, int processed) {
+        cursors.put(projectId, lastErrorId);
+        processedErrors.addAndGet(processed);
+    }
+
+    public void completeProject(String projectId) {
+        completedProjectIds.add(projectId);
+    }
+
+    public Map<String, String> pendingCursors() {
+        Map<String, String> pending = new LinkedHashMap<>();
+        cursors.forEach((projectId, cursor) -> {
+            if (!completedProjectIds.contains(projectId)) {
+                pending.put(projectId, cursor);
+            }
+        });
+        return pending;
+    }
+
+    public int totalProjects() {
+        return cursors.size();
+    }
+
+    public int completedProjects() {
+        return completedProjectIds.size();
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    /**
+     * 취소/실패한 작업 재개
+     */
+    public void resume() {
+        this.cancelRequested = false;
+        this.failureMessage = null;
+        this.finishedAt = null;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void finish(String failureMessage) {
+        this.failureMessage = failureMessage;
+        if (failureMessage != null) {
+            this.status = Status.FAILED;
+        } else if (cancelRequested) {
+            this.status = Status.CANCELLED;
+        } else {
+            this.status = Status.COMPLETED;
+        }
+        this.finishedAt = LocalDateTime.now();
+    }
+}
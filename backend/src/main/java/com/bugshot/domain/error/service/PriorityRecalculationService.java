@@ -0,0 +1,241 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
+import com.bugshot.domain.error.repository.ErrorRepository;
+import com.bugshot.domain.priority.service.PriorityRuleCache;
+import com.bugshot.domain.priority.service.PriorityRuleSet;
+import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.config.AsyncConfig;
+import com.bugshot.global.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 에러 우선순위 일괄 재계산 (비동기 작업)
+ * <p>
+ * 사용자의 모든 에러를 한 트랜잭션에서 한꺼번에 읽고 에러마다 쿼리 두 개 + 저장을 HTTP 스레드에서 실행하던 것을,
+ * 프로젝트별로 병렬 실행되는 chunk 단위 백그라운드 작업으로 바꿨습니다.
+ * </p>
+ *
+ * <pre>
+ * - 프로젝트 안에서는 에러 ID 순서 keyset 페이지 (id > 커서 ORDER BY id LIMIT chunk-size)
+ * - chunk마다: 에러 조회 1 + 사용자 수 PFCOUNT 파이프라인 1 + 최근 URL 1 + 에러 UPDATE 배치 1, chunk 단위로 커밋
+ * - 사용자 수는 AffectedUserSketches(HyperLogLog) 추정값 - 발생은 급증 중 샘플링되므로 발생 테이블 COUNT(DISTINCT)는 적게 셈
+ *   (Redis 장애 시에만 GROUP BY 집계로 대체, 어느 쪽이든 저장된 값보다 작으면 저장된 값 유지 - 사용자 수는 줄지 않음)
+ * - 프로젝트 단위로 recalculationExecutor에 나눠 실행
+ * - 취소: chunk 경계에서 중단, 커밋된 chunk는 유지
+ * - 재개: 취소/실패한 작업이 있으면 새로 시작하지 않고 프로젝트별 커서 다음부터 이어서 실행
+ * - 사용자당 실행 중인 작업은 하나 (실행 중이면 그 작업을 그대로 반환)
+ * - 시작 판단은 ReentrantLock으로 직렬화, 프로젝트 조회(JDBC)는 잠금 밖에서 실행 (가상 스레드 pinning 방지)
+ * - 작업 상태는 이 노드 메모리에만 있으므로 재시작하면 처음부터 다시 시작
+ * </pre>
+ */
+@Service
+@Slf4j
+public class PriorityRecalculationService {
+
+    private final ErrorRepository errorRepository;
+    private final ErrorOccurrenceRepository occurrenceRepository;
+    private final ProjectRepository projectRepository;
+    private final PriorityRuleCache priorityRuleCache;
+    private final AffectedUserSketches affectedUserSketches;
+    private final Executor recalculationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Map<String, PriorityRecalculationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, String> latestJobByUser = new ConcurrentHashMap<>();
+    private final ReentrantLock startLock = new ReentrantLock();
+
+    public PriorityRecalculationService(ErrorRepository errorRepository,
+                                        ErrorOccurrenceRepository occurrenceRepository,
+                                        ProjectRepository projectRepository,
+                                        PriorityRuleCache priorityRuleCache,
+                                        AffectedUserSketches affectedUserSketches,
+                                        @Qualifier(AsyncConfig.RECALCULATION_EXECUTOR) Executor recalculationExecutor,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.priority-recalculation.chunk-size:500}") int chunkSize) {
+        this.errorRepository = errorRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.projectRepository = projectRepository;
+        this.priorityRuleCache = priorityRuleCache;
+        this.affectedUserSketches = affectedUserSketches;
+        this.recalculationExecutor = recalculationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 재계산 시작 (또는 취소/실패한 작업 재개)
+     */
+    public PriorityRecalculationJob start(String userId) {
+        // 잠금 안에서 JDBC를 실행하지 않도록 새 작업에 쓸 프로젝트 목록을 먼저 조회
+        List<String> projectIds = projectRepository.findByUserId(userId).stream()
+                .map(Project::getId)
+                .toList();
+
+        startLock.lock();
+        try {
+            return startLocked(userId, projectIds);
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    private PriorityRecalculationJob startLocked(String userId, List<String> projectIds) {
+        PriorityRecalculationJob job = latestJob(userId);
+        if (job != null && !job.isFinished()) {
+            return job;
+        }
+
+        if (job != null && job.getStatus() != PriorityRecalculationJob.Status.COMPLETED) {
+            job.resume();
+            log.info("Resuming priority recalculation: jobId={}, pendingProjects={}",
+                    job.getId(), job.pendingCursors().size());
+        } else {
+            job = new PriorityRecalculationJob(userId, projectIds);
+            jobs.put(job.getId(), job);
+            String previous = latestJobByUser.put(userId, job.getId());
+            if (previous != null) {
+                jobs.remove(previous);
+            }
+            log.info("Starting priority recalculation: jobId={}, userId={}, projects={}",
+                    job.getId(), userId, projectIds.size());
+        }
+
+        run(job);
+        return job;
+    }
+
+    public PriorityRecalculationJob getJob(String userId, String jobId) {
+        PriorityRecalculationJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new ResourceNotFoundException("우선순위 재계산 작업", jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 취소 요청 - 진행 중인 chunk가 커밋된 뒤 멈춤
+     */
+    public PriorityRecalculationJob cancel(String userId, String jobId) {
+        PriorityRecalculationJob job = getJob(userId, jobId);
+        if (!job.isFinished()) {
+            job.requestCancel();
+            log.info("Priority recalculation cancel requested: jobId={}", jobId);
+        }
+        return job;
+    }
+
+    private PriorityRecalculationJob latestJob(String userId) {
+        String jobId = latestJobByUser.get(userId);
+        return jobId != null ? jobs.get(jobId) : null;
+    }
+
+    private void run(PriorityRecalculationJob job) {
+        CompletableFuture<?>[] projects = job.pendingCursors().keySet().stream()
+                .map(projectId -> submit(job, projectId))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(projects).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                log.error("Priority recalculation failed: jobId={}", job.getId(), failure);
+            }
+            job.finish(failure != null ? rootMessage(failure) : null);
+            log.info("Priority recalculation finished: jobId={}, status={}, errors={}, projects={}/{}",
+                    job.getId(), job.getStatus(), job.getProcessedErrors().get(),
+                    job.completedProjects(), job.totalProjects());
+        });
+    }
+
+    private CompletableFuture<Void> submit(PriorityRecalculationJob job, String projectId) {
+        try {
+            return CompletableFuture.runAsync(() -> recalculateProject(job, projectId), recalculationExecutor);
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 차면 이 프로젝트는 실패로 남기고, 재개 시 다시 시도
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void recalculateProject(PriorityRecalculationJob job, String projectId) {
+        while (!job.isCancelRequested()) {
+            String cursor = job.cursor(projectId);
+            List<Error> chunk = transactionTemplate.execute(status -> recalculateChunk(projectId, cursor));
+            if (chunk.isEmpty()) {
+                job.completeProject(projectId);
+                return;
+            }
+            job.advance(projectId, chunk.get(chunk.size() - 1).getId(), chunk.size());
+            if (chunk.size() < chunkSize) {
+                job.completeProject(projectId);
+                return;
+            }
+        }
+    }
+
+    /**
+     * chunk 하나 재계산 - 트랜잭션 커밋 시 변경된 에러를 배치 UPDATE
+     */
+    private List<Error> recalculateChunk(String projectId, String cursor) {
+        List<Error> errors = errorRepository.findChunkByProjectIdAfter(projectId, cursor, PageRequest.of(0, chunkSize));
+        if (errors.isEmpty()) {
+            return errors;
+        }
+        List<String> errorIds = errors.stream().map(Error::getId).toList();
+
+        Map<String, Long> affectedUsers = countAffectedUsers(errorIds);
+        Map<String, String> latestUrls = new HashMap<>();
+        for (Object[] row : occurrenceRepository.findLatestUrlsByErrorIds(errorIds)) {
+            latestUrls.put((String) row[0], (String) row[1]);
+        }
+
+        PriorityRuleSet rules = priorityRuleCache.get(projectId);
+        for (Error error : errors) {
+            // 스케치가 만료됐거나 샘플링된 발생만 센 경우 저장된 값보다 작을 수 있음
+            int counted = affectedUsers.getOrDefault(error.getId(), 0L).intValue();
+            int stored = error.getAffectedUsersCount() != null ? error.getAffectedUsersCount() : 0;
+            error.updateAffectedUsersCount(Math.max(counted, stored));
+            error.calculatePriority(rules.weigh(latestUrls.get(error.getId()), error.getErrorType()));
+        }
+        return errors;
+    }
+
+    private Map<String, Long> countAffectedUsers(Collection<String> errorIds) {
+        try {
+            return affectedUserSketches.countErrors(errorIds);
+        } catch (Exception e) {
+            log.warn("Affected-user sketches unavailable, counting from occurrences: {}", e.getMessage());
+        }
+
+        Map<String, Long> affectedUsers = new HashMap<>();
+        for (Object[] row : occurrenceRepository.countDistinctUsersByErrorIds(errorIds)) {
+            affectedUsers.put((String) row[0], (Long) row[1]);
+        }
+        return affectedUsers;
+    }
+
+    private String rootMessage(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
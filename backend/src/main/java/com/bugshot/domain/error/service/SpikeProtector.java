@@ -0,0 +1,138 @@
+package com.bugshot.domain.error.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로젝트별 급증 보호 (server-side sampling)
+ * <p>
+ * 한 프로젝트의 잘못된 배포가 에러를 쏟아내면 error_occurrences 저장량과 쓰기 부하가 시스템 전체를 압박합니다.
+ * 프로젝트마다 1분 단위 수집량의 기준선(EWMA)을 유지하고, 현재 1분 수집량이 기준선 × factor를 넘으면
+ * 그 이후 이벤트의 occurrence 저장을 확률적으로 샘플링합니다.
+ * </p>
+ *
+ * <pre>
+ * - 에러 그룹 카운터(occurrenceCount, 프로젝트 totalErrors)는 샘플링과 관계없이 모든 이벤트를 반영
+ * - 샘플링 확률 = 허용량 / 현재 1분 수집량 (최소 min-sample-rate) → 저장량은 허용량 근처로 유지됨
+ * - 저장된 occurrence에 적용된 sample_rate를 기록 → 화면에서 1 / sample_rate 배로 추정 가능
+ * - 급증 구간은 기준선에 허용량까지만 반영되므로, 지속되는 증가는 몇 분에 걸쳐 새 기준선이 됨
+ * - 메트릭: bugshot.ingest.sampled_out
+ * </pre>
+ */
+@Component
+@Slf4j
+public class SpikeProtector {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+    private static final double BASELINE_ALPHA = 0.2;
+    private static final SampleDecision KEEP = new SampleDecision(true, 1.0);
+
+    private final boolean enabled;
+    private final double factor;
+    private final double minBaseline;
+    private final double minSampleRate;
+
+    private final Map<String, ProjectRate> rates = new ConcurrentHashMap<>();
+    private final Counter sampledOutCounter;
+
+    public SpikeProtector(MeterRegistry meterRegistry,
+                          @Value("${app.ingest.spike-protection.enabled:true}") boolean enabled,
+                          @Value("${app.ingest.spike-protection.factor:5.0}") double factor,
+                          @Value("${app.ingest.spike-protection.min-baseline-per-minute:60}") double minBaseline,
+                          @Value("${app.ingest.spike-protection.min-sample-rate:0.01}") double minSampleRate) {
+        this.enabled = enabled;
+        this.factor = factor;
+        this.minBaseline = minBaseline;
+        this.minSampleRate = minSampleRate;
+        this.sampledOutCounter = Counter.builder("bugshot.ingest.sampled_out")
+                .description("Events counted in group counters but not stored as occurrences during a spike")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 하나를 집계하고 occurrence 저장 여부 결정
+     */
+    public SampleDecision admit(String projectId) {
+        if (!enabled) {
+            return KEEP;
+        }
+        long now = System.currentTimeMillis();
+        ProjectRate rate = rates.computeIfAbsent(projectId, id -> new ProjectRate(now));
+        long count = rate.record(now);
+        double allowed = rate.allowed();
+        if (count <= allowed) {
+            return KEEP;
+        }
+
+        if (count == (long) allowed + 1) {
+            log.warn("Spike protection engaged: projectId={}, allowedPerMinute={}", projectId, (long) allowed);
+        }
+        double sampleRate = Math.max(minSampleRate, allowed / count);
+        boolean stored = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (!stored) {
+            sampledOutCounter.increment();
+        }
+        return new SampleDecision(stored, sampleRate);
+    }
+
+    /**
+     * @param stored     occurrence를 저장할지 여부
+     * @param sampleRate 저장 시 기록할 샘플링 비율 (급증 구간이 아니면 1.0)
+     */
+    public record SampleDecision(boolean stored, double sampleRate) {
+    }
+
+    /**
+     * 프로젝트 하나의 1분 버킷 카운터와 기준선
+     */
+    private final class ProjectRate {
+
+        private final ReentrantLock rollLock = new ReentrantLock();
+        private final AtomicLong count = new AtomicLong();
+        private volatile long bucketStart;
+        private volatile double baseline = -1;
+
+        private ProjectRate(long now) {
+            this.bucketStart = now;
+        }
+
+        private long record(long now) {
+            if (now - bucketStart >= BUCKET_MILLIS) {
+                roll(now);
+            }
+            return count.incrementAndGet();
+        }
+
+        private double allowed() {
+            return Math.max(baseline, minBaseline) * factor;
+        }
+
+        private void roll(long now) {
+            rollLock.lock();
+            try {
+                long elapsedBuckets = (now - bucketStart) / BUCKET_MILLIS;
+                if (elapsedBuckets == 0) {
+                    return;
+                }
+                double observed = Math.min(count.getAndSet(0), allowed());
+                baseline = baseline < 0 ? observed : baseline + (observed - baseline) * BASELINE_ALPHA;
+                // 수집이 없던 버킷은 0건으로 반영
+                if (elapsedBuckets > 1) {
+                    baseline *= Math.pow(1 - BASELINE_ALPHA, elapsedBuckets - 1);
+                }
+                bucketStart += elapsedBuckets * BUCKET_MILLIS;
+            } finally {
+                rollLock.unlock();
+            }
+        }
+    }
+}
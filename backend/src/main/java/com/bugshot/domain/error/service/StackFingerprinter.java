@@ -0,0 +1,218 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.dto.IngestRequest;
+import com.bugshot.domain.error.entity.ErrorFingerprint;
+import com.bugshot.domain.error.repository.ErrorRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스택 프레임 기반 에러 그룹 지문 계산
+ * <p>
+ * 최상위 프레임의 "type|file|line"만 해시하면 빌드마다 바뀌는 번들 해시나 줄 이동 때문에 같은 버그가 새 그룹이 되고,
+ * 최상위 프레임이 같은 프레임워크 코드인 서로 다른 에러는 한 그룹으로 합쳐집니다.
+ * stackTrace를 프레임으로 파싱해 정규화한 뒤, 앱 코드 프레임 상위 N개로 지문을 계산합니다.
+ * </p>
+ *
+ * <pre>
+ * - 지원 형식: Java ("at pkg.Class.method(File.java:42)"), V8 ("at fn (url:1:2)"), Gecko/Safari ("fn@url:1:2")
+ * - 파일 정규화: scheme/host, 쿼리스트링/fragment, 번들 해시(main.3f9a2b1c.js → main.js) 제거
+ * - 줄/컬럼 번호는 지문에 넣지 않음 (함수 이름이 없거나 난독화된 프레임은 파일만 사용)
+ * - 프레임워크 프레임(java.*, org.springframework.*, node_modules 등)은 제외 - 앱 프레임이 없으면 전체 프레임 사용
+ * - "Caused by:" 이후(원인 예외)는 무시하고 최상위 예외의 프레임만 사용
+ * - 파싱 가능한 프레임이 없으면 기존 type|file|line 지문으로 대체
+ * - 기존 type|file|line 지문으로 이미 그룹이 있으면 그 지문을 그대로 사용 (배포 전에 수집된 에러가 새 그룹으로 갈라지지 않음)
+ *   (프로젝트, 기존 지문) → 그룹 존재 여부는 legacy-cache-ttl-seconds 동안 캐시, legacy-fallback-enabled로 끌 수 있음
+ * - 원본 (type, stackTrace) → 지문 LRU 캐시 (스택 트레이스 문자 수 기준 크기 제한)
+ * </pre>
+ */
+@Component
+public class StackFingerprinter {
+
+    private static final int MAX_SCANNED_LINES = 200;
+
+    private static final Pattern JAVA_FRAME =
+            Pattern.compile("^\\s*at\\s+(?:[\\w.$-]+/)*([\\w$.<>]+)\\.([\\w$<>-]+)\\((.*)\\)\\s*$");
+    private static final Pattern V8_FRAME =
+            Pattern.compile("^\\s*at\\s+(?:(?:async\\s+)?(.+?)\\s+\\()?(.+?)(?::\\d+)?(?::\\d+)?\\)?\\s*$");
+    private static final Pattern GECKO_FRAME =
+            Pattern.compile("^\\s*([^@\\s]*)@(.+?):\\d+(?::\\d+)?\\s*$");
+
+    private static final Pattern URL_ORIGIN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*");
+    private static final Pattern QUERY_OR_FRAGMENT = Pattern.compile("[?#].*$");
+    private static final Pattern BUNDLE_HASH =
+            Pattern.compile("[.-](?=[A-Za-z0-9_]*\\d)[A-Za-z0-9_]{6,}(?=(?:\\.min)?\\.[A-Za-z]+$)");
+    private static final Pattern JAVA_LAMBDA_ADDRESS = Pattern.compile("\\$\\$Lambda[$\\d]*/0x[0-9a-fA-F]+");
+    private static final Pattern JAVA_GENERATED =
+            Pattern.compile("\\$\\$(?:Lambda|EnhancerBySpringCGLIB|SpringCGLIB|HibernateProxy)\\b.*$|\\$\\d+(?=$|\\$)");
+
+    private static final Pattern FRAMEWORK_FRAME = Pattern.compile(
+            "^(?:java|javax|jdk|sun|com\\.sun|jakarta|kotlin|kotlinx|scala|org\\.springframework|org\\.apache"
+                    + "|org\\.hibernate|com\\.zaxxer|com\\.fasterxml|io\\.micrometer|io\\.netty|reactor|org\\.junit)\\."
+                    + "|(?:^|/)node_modules/|^node:|^internal/|^native(?::|$)|^<anonymous>(?::|$)"
+                    + "|^(?:chrome|moz|safari(?:-web)?)-extension:|/webpack/(?:bootstrap|runtime)");
+
+    private final ErrorRepository errorRepository;
+    private final boolean enabled;
+    private final int maxFrames;
+    private final boolean legacyFallbackEnabled;
+    private final Cache<TraceKey, ErrorFingerprint> cache;
+    private final Cache<LegacyGroupKey, Boolean> legacyGroups;
+
+    public StackFingerprinter(ErrorRepository errorRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.ingest.fingerprint.stack-frames-enabled:true}") boolean enabled,
+                              @Value("${app.ingest.fingerprint.max-frames:5}") int maxFrames,
+                              @Value("${app.ingest.fingerprint.cache-max-chars:16777216}") long cacheMaxChars,
+                              @Value("${app.ingest.fingerprint.legacy-fallback-enabled:true}") boolean legacyFallbackEnabled,
+                              @Value("${app.ingest.fingerprint.legacy-cache-max-entries:100000}") long legacyCacheMaxEntries,
+                              @Value("${app.ingest.fingerprint.legacy-cache-ttl-seconds:600}") long legacyCacheTtlSeconds) {
+        this.errorRepository = errorRepository;
+        this.enabled = enabled;
+        this.maxFrames = Math.max(1, maxFrames);
+        this.legacyFallbackEnabled = legacyFallbackEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxChars)
+                .weigher((TraceKey key, ErrorFingerprint value) -> key.weight())
+                .recordStats()
+                .build();
+        this.legacyGroups = Caffeine.newBuilder()
+                .maximumSize(legacyCacheMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(legacyCacheTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "stackFingerprint");
+        CaffeineCacheMetrics.monitor(meterRegistry, legacyGroups, "legacyFingerprintGroup");
+    }
+
+    /**
+     * 에러 그룹 지문 계산
+     *
+     * @param projectId 기존 type|file|line 지문 그룹이 있는지 확인할 프로젝트
+     */
+    public ErrorFingerprint fingerprint(String projectId, IngestRequest.ErrorInfo error) {
+        ErrorFingerprint legacy = ErrorFingerprint.of(error.getType(), error.getFile(), error.getLine());
+        String stackTrace = error.getStackTrace();
+        if (!enabled || stackTrace == null || stackTrace.isBlank()) {
+            return legacy;
+        }
+
+        ErrorFingerprint fingerprint = cache.get(new TraceKey(error.getType(), stackTrace),
+                key -> fromFrames(key.errorType(), key.stackTrace()));
+        if (fingerprint == null) {
+            return legacy;
+        }
+        if (legacyFallbackEnabled && !fingerprint.equals(legacy) && legacyGroupExists(projectId, legacy)) {
+            return legacy;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 기존 type|file|line 지문으로 만들어진 그룹이 있는지 (캐시)
+     */
+    private boolean legacyGroupExists(String projectId, ErrorFingerprint legacy) {
+        return legacyGroups.get(new LegacyGroupKey(projectId, legacy),
+                key -> errorRepository.existsByProjectIdAndErrorFingerprint(projectId, legacy.toBytes()));
+    }
+
+    /**
+     * @return 파싱 가능한 프레임이 없으면 null (캐시에 저장되지 않음)
+     */
+    private ErrorFingerprint fromFrames(String errorType, String stackTrace) {
+        List<String> appFrames = new ArrayList<>(maxFrames);
+        List<String> allFrames = new ArrayList<>(maxFrames);
+
+        int start = 0;
+        int scanned = 0;
+        while (start < stackTrace.length() && scanned++ < MAX_SCANNED_LINES && appFrames.size() < maxFrames) {
+            int end = stackTrace.indexOf('\n', start);
+            if (end < 0) {
+                end = stackTrace.length();
+            }
+            String line = stackTrace.substring(start, end);
+            start = end + 1;
+
+            if (line.stripLeading().startsWith("Caused by:")) {
+                break;
+            }
+            String frame = normalize(line);
+            if (frame == null) {
+                continue;
+            }
+            if (allFrames.size() < maxFrames) {
+                allFrames.add(frame);
+            }
+            if (!FRAMEWORK_FRAME.matcher(frame).find()) {
+                appFrames.add(frame);
+            }
+        }
+
+        List<String> frames = appFrames.isEmpty() ? allFrames : appFrames;
+        return frames.isEmpty() ? null : ErrorFingerprint.ofFrames(errorType, frames);
+    }
+
+    /**
+     * 스택 트레이스 한 줄을 "모듈:함수" 형태로 정규화 (프레임이 아니면 null)
+     */
+    private String normalize(String line) {
+        if (line.contains("$$Lambda")) {
+            line = JAVA_LAMBDA_ADDRESS.matcher(line).replaceFirst("\\$\\$Lambda");
+        }
+        Matcher java = JAVA_FRAME.matcher(line);
+        if (java.matches()) {
+            // 클래스 + 메서드로 충분히 구분되므로 파일/줄 번호는 사용하지 않음 (프록시/람다/익명 클래스 접미사 제거)
+            return JAVA_GENERATED.matcher(java.group(1)).replaceAll("") + ":" + java.group(2);
+        }
+
+        Matcher v8 = V8_FRAME.matcher(line);
+        if (v8.matches()) {
+            return jsFrame(v8.group(1), v8.group(2));
+        }
+
+        Matcher gecko = GECKO_FRAME.matcher(line);
+        if (gecko.matches()) {
+            return jsFrame(gecko.group(1), gecko.group(2));
+        }
+        return null;
+    }
+
+    private String jsFrame(String function, String file) {
+        String module = normalizeFile(file);
+        // 난독화된 이름(t, e, Xa 등)은 빌드마다 바뀌므로 파일만 사용
+        if (function == null || function.length() <= 2) {
+            return module;
+        }
+        return module + ":" + function;
+    }
+
+    private String normalizeFile(String file) {
+        String path = URL_ORIGIN.matcher(file).replaceFirst("");
+        path = QUERY_OR_FRAGMENT.matcher(path).replaceFirst("");
+        return BUNDLE_HASH.matcher(path).replaceFirst("");
+    }
+
+    private record LegacyGroupKey(String projectId, ErrorFingerprint fingerprint) {
+    }
+
+    /**
+     * 캐시 키 (가중치 = 문자 수)
+     */
+    private record TraceKey(String errorType, String stackTrace) {
+
+        private int weight() {
+            return stackTrace.length() + (errorType != null ? errorType.length() : 0);
+        }
+    }
+}
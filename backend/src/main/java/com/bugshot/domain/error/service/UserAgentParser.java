@@ -0,0 +1,188 @@
+package com.bugshot.domain.error.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * User-Agent 문자열 → 브라우저 / OS / 기기 종류 파싱
+ * <p>
+ * SDK가 browser/os/device를 보내지 않으면(Java SDK, 구버전 브라우저 SDK) 발생 정보가 원본 userAgent만 남으므로
+ * 서버에서 채웁니다. 실제 트래픽의 User-Agent 종류는 매우 적어 원본 문자열 → 파싱 결과 LRU 캐시로
+ * 수집 경로에서는 대부분 캐시 조회 한 번으로 끝납니다.
+ * </p>
+ *
+ * <pre>
+ * - 브라우저: 이름 + 메이저 버전 ("Chrome 120") - Edge/Opera/Whale/Samsung 등 Chromium 계열을 Chrome보다 먼저 판별
+ * - 인앱 브라우저(카카오톡, 네이버)와 HTTP 클라이언트(okhttp, Java, curl 등)도 이름으로 구분
+ * - OS: "Windows 10", "macOS 10.15", "iOS 17", "Android 14", "ChromeOS", "Linux"
+ *   (Windows 11은 UA에서 10과 구분되지 않음)
+ * - 기기: mobile / tablet / desktop / bot (판별할 수 없는 HTTP 클라이언트는 null)
+ * - 앞 MAX_USER_AGENT_LENGTH자만 파싱/캐시 키로 사용
+ * </pre>
+ */
+@Component
+public class UserAgentParser {
+
+    static final int MAX_USER_AGENT_LENGTH = 512;
+
+    private static final List<Rule> BROWSERS = List.of(
+            new Rule(Pattern.compile("bot\\b|crawler|spider|slurp|bingpreview|facebookexternalhit", Pattern.CASE_INSENSITIVE), "Bot"),
+            new Rule(Pattern.compile("KAKAOTALK(?:[ /]+(\\d+))?", Pattern.CASE_INSENSITIVE), "KakaoTalk"),
+            new Rule(Pattern.compile("NAVER\\(inapp"), "Naver"),
+            new Rule(Pattern.compile("\\bEdg(?:e|A|iOS)?/(\\d+)"), "Edge"),
+            new Rule(Pattern.compile("\\b(?:OPR|Opera)/(\\d+)"), "Opera"),
+            new Rule(Pattern.compile("\\bWhale/(\\d+)"), "Whale"),
+            new Rule(Pattern.compile("\\bSamsungBrowser/(\\d+)"), "Samsung Internet"),
+            new Rule(Pattern.compile("\\b(?:Firefox|FxiOS)/(\\d+)"), "Firefox"),
+            new Rule(Pattern.compile("\\b(?:CriOS|Chrome)/(\\d+)"), "Chrome"),
+            new Rule(Pattern.compile("\\bVersion/(\\d+)[^ ]* (?:Mobile/\\S+ )?Safari/"), "Safari"),
+            new Rule(Pattern.compile("\\bMSIE (\\d+)|\\bTrident/.*\\brv:(\\d+)"), "IE"),
+            new Rule(Pattern.compile("^okhttp/(\\d+)", Pattern.CASE_INSENSITIVE), "OkHttp"),
+            new Rule(Pattern.compile("^Apache-HttpClient/(\\d+)"), "Apache HttpClient"),
+            new Rule(Pattern.compile("^Java(?:-http-client)?/(\\d+)"), "Java"),
+            new Rule(Pattern.compile("^curl/(\\d+)"), "curl"),
+            new Rule(Pattern.compile("^python-requests/(\\d+)"), "Python Requests"),
+            new Rule(Pattern.compile("^axios/(\\d+)"), "axios"),
+            new Rule(Pattern.compile("^node-fetch(?:/(\\d+))?|^undici"), "Node.js"),
+            new Rule(Pattern.compile("^Go-http-client/(\\d+)"), "Go"),
+            new Rule(Pattern.compile("^PostmanRuntime/(\\d+)"), "Postman")
+    );
+
+    private static final Pattern WINDOWS = Pattern.compile("Windows NT (\\d+\\.\\d+)");
+    private static final Pattern IOS = Pattern.compile("(?:iPhone|iPad|iPod)(?:.*?) OS (\\d+)[_.\\d]* like Mac OS X");
+    private static final Pattern ANDROID = Pattern.compile("Android (\\d+)");
+    private static final Pattern MAC = Pattern.compile("Mac OS X (\\d+)[_.](\\d+)");
+
+    private static final Pattern TABLET = Pattern.compile("iPad|Tablet|PlayBook|Silk|SM-T\\d|Nexus (?:7|9|10)\\b");
+    private static final Pattern MOBILE = Pattern.compile("Mobi|iPhone|iPod|Windows Phone|BlackBerry|Opera Mini");
+
+    private final boolean enabled;
+    private final Cache<String, UserAgentInfo> cache;
+
+    public UserAgentParser(MeterRegistry meterRegistry,
+                           @Value("${app.ingest.user-agent.parse-enabled:true}") boolean enabled,
+                           @Value("${app.ingest.user-agent.cache-max-entries:10000}") long cacheMaxEntries) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userAgent");
+    }
+
+    /**
+     * User-Agent 파싱 (비어 있거나 비활성화면 UserAgentInfo.UNKNOWN)
+     */
+    public UserAgentInfo parse(String userAgent) {
+        if (!enabled || userAgent == null || userAgent.isBlank()) {
+            return UserAgentInfo.UNKNOWN;
+        }
+        String key = userAgent.length() > MAX_USER_AGENT_LENGTH
+                ? userAgent.substring(0, MAX_USER_AGENT_LENGTH)
+                : userAgent;
+        return cache.get(key, UserAgentParser::parseUncached);
+    }
+
+    static UserAgentInfo parseUncached(String userAgent) {
+        String browser = parseBrowser(userAgent);
+        String os = parseOs(userAgent);
+        return new UserAgentInfo(browser, os, parseDevice(userAgent, browser, os));
+    }
+
+    private static String parseBrowser(String userAgent) {
+        for (Rule rule : BROWSERS) {
+            Matcher matcher = rule.pattern().matcher(userAgent);
+            if (matcher.find()) {
+                String version = firstGroup(matcher);
+                return version != null ? rule.name() + " " + version : rule.name();
+            }
+        }
+        return null;
+    }
+
+    private static String parseOs(String userAgent) {
+        Matcher matcher = IOS.matcher(userAgent);
+        if (matcher.find()) {
+            return "iOS " + matcher.group(1);
+        }
+        matcher = ANDROID.matcher(userAgent);
+        if (matcher.find()) {
+            return "Android " + matcher.group(1);
+        }
+        matcher = WINDOWS.matcher(userAgent);
+        if (matcher.find()) {
+            return windowsName(matcher.group(1));
+        }
+        if (userAgent.contains("CrOS")) {
+            return "ChromeOS";
+        }
+        matcher = MAC.matcher(userAgent);
+        if (matcher.find()) {
+            return "macOS " + matcher.group(1) + "." + matcher.group(2);
+        }
+        if (userAgent.contains("Macintosh")) {
+            return "macOS";
+        }
+        if (userAgent.contains("Linux") || userAgent.contains("X11")) {
+            return "Linux";
+        }
+        return null;
+    }
+
+    private static String parseDevice(String userAgent, String browser, String os) {
+        if ("Bot".equals(browser)) {
+            return "bot";
+        }
+        // Android 태블릿은 "Mobile" 토큰이 없음
+        if (TABLET.matcher(userAgent).find()
+                || (os != null && os.startsWith("Android") && !userAgent.contains("Mobile"))) {
+            return "tablet";
+        }
+        if (MOBILE.matcher(userAgent).find()) {
+            return "mobile";
+        }
+        // HTTP 클라이언트 등 브라우저가 아닌 UA는 기기를 알 수 없음
+        return userAgent.startsWith("Mozilla/") ? "desktop" : null;
+    }
+
+    private static String windowsName(String version) {
+        return switch (version) {
+            case "10.0" -> "Windows 10";
+            case "6.3" -> "Windows 8.1";
+            case "6.2" -> "Windows 8";
+            case "6.1" -> "Windows 7";
+            case "6.0" -> "Windows Vista";
+            case "5.1", "5.2" -> "Windows XP";
+            default -> "Windows";
+        };
+    }
+
+    private static String firstGroup(Matcher matcher) {
+        for (int i = 1; i <= matcher.groupCount(); i++) {
+            if (matcher.group(i) != null) {
+                return matcher.group(i);
+            }
+        }
+        return null;
+    }
+
+    private record Rule(Pattern pattern, String name) {
+    }
+
+    /**
+     * 파싱 결과 (판별하지 못한 항목은 null)
+     */
+    public record UserAgentInfo(String browser, String os, String device) {
+
+        public static final UserAgentInfo UNKNOWN = new UserAgentInfo(null, null, null);
+    }
+}
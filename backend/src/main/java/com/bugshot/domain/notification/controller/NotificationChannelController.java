@@ -0,0 +1,39 @@
+package com.bugshot.domain.notification.controller;
+
+import com.bugshot.domain.notification.dto.NotificationChannelResponse;
+import com.bugshot.domain.notification.service.NotificationService;
+import com.bugshot.global.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 프로젝트 알림 채널 API
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/notification-channels")
+@RequiredArgsConstructor
+public class NotificationChannelController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * 채널 목록 조회
+     * GET /api/projects/{projectId}/notification-channels
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<NotificationChannelResponse>>> getChannels(
+            @PathVariable String projectId,
+            Authentication authentication
+    ) {
+        List<NotificationChannelResponse> channels =
+                notificationService.getProjectChannels(authentication.getName(), projectId);
+        return ResponseEntity.ok(ApiResponse.success(channels));
+    }
+}
@@ -0,0 +1,48 @@
+package com.bugshot.domain.notification.dto;
+
+import com.bugshot.domain.notification.entity.NotificationChannel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 채널 응답
+ * <p>
+ * 채널 설정(config)에는 토큰/웹훅 URL이 들어있으므로 응답에 포함하지 않습니다.
+ * </p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationChannelResponse {
+    private String id;
+    private String projectId;
+    private String channelType;
+    private String minSeverity;
+    private boolean enabled;
+    private long totalNotificationsSent;
+    private LocalDateTime lastNotifiedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * @param pendingSent 아직 DB에 반영되지 않은 발송 수 (CounterAggregator.pending)
+     */
+    public static NotificationChannelResponse from(NotificationChannel channel, long pendingSent) {
+        return NotificationChannelResponse.builder()
+                .id(channel.getId())
+                .projectId(channel.getProject().getId())
+                .channelType(channel.getChannelType().name())
+                .minSeverity(channel.getMinSeverity().name())
+                .enabled(Boolean.TRUE.equals(channel.getEnabled()))
+                .totalNotificationsSent(channel.getTotalNotificationsSent() + pendingSent)
+                .lastNotifiedAt(channel.getLastNotifiedAt())
+                .createdAt(channel.getCreatedAt())
+                .updatedAt(channel.getUpdatedAt())
+                .build();
+    }
+}
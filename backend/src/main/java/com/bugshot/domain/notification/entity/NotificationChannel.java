@@ -5,6 +5,7 @@ import com.bugshot.domain.error.entity.Error;
 import com.bugshot.domain.project.entity.Project;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -17,6 +18,7 @@ import java.util.UUID;
     @Index(name = "idx_project_id", columnList = "project_id"),
     @Index(name = "idx_enabled", columnList = "project_id, enabled")
 })
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -75,11 +77,6 @@ public class NotificationChannel extends BaseEntity {
         return errorSeverity.ordinal() <= minSeverity.ordinal();
     }
 
-    public void incrementNotificationCount() {
-        this.totalNotificationsSent++;
-        this.lastNotifiedAt = LocalDateTime.now();
-    }
-
     public void enable() {
         this.enabled = true;
     }
@@ -3,16 +3,20 @@ package com.bugshot.domain.notification.service;
 import com.bugshot.domain.common.util.NotificationFormatter;
 import com.bugshot.domain.error.entity.Error;
 import com.bugshot.domain.error.entity.ErrorOccurrence;
+import com.bugshot.domain.notification.dto.NotificationChannelResponse;
 import com.bugshot.domain.notification.entity.NotificationChannel;
 import com.bugshot.domain.notification.repository.NotificationChannelRepository;
 import com.bugshot.domain.notification.strategy.NotificationStrategy;
 import com.bugshot.domain.notification.strategy.NotificationStrategyRegistry;
 import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
 import com.bugshot.domain.webhook.entity.WebhookConfig;
 import com.bugshot.domain.webhook.repository.WebhookConfigRepository;
+import com.bugshot.global.counter.CounterAggregator;
+import com.bugshot.global.counter.CounterType;
+import com.bugshot.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -47,9 +51,11 @@ import java.util.Map;
 public class NotificationService {
 
     private final NotificationChannelRepository channelRepository;
+    private final ProjectRepository projectRepository;
     private final NotificationStrategyRegistry strategyRegistry;
     private final WebhookConfigRepository webhookConfigRepository;
     private final WebClient.Builder webClientBuilder;
+    private final CounterAggregator counterAggregator;
 
     /**
      * 에러 발생 시 모든 활성화된 채널로 알림 전송
@@ -67,8 +73,38 @@ public class NotificationService {
             "NavigationEvent"
     );
 
-    @Async
+    /**
+     * 프로젝트의 알림 채널 목록 조회 (아직 flush되지 않은 발송 수 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationChannelResponse> getProjectChannels(String userId, String projectId) {
+        projectRepository.findByUserIdAndProjectId(userId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("프로젝트", projectId));
+
+        return channelRepository.findByProjectId(projectId).stream()
+                .map(channel -> NotificationChannelResponse.from(channel,
+                        counterAggregator.pending(CounterType.NOTIFICATION_CHANNEL_SENT, channel.getId())))
+                .toList();
+    }
+
     @Transactional
+    public void notifyError(String projectId, Error error, ErrorOccurrence occurrence) {
+        // 수집 경로는 캐시된 스냅샷만 가지고 있으므로 알림 메시지용 프로젝트는 여기서 조회
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null) {
+            log.warn("Skipping notification for deleted project: projectId={}", projectId);
+            return;
+        }
+        notifyError(project, error, occurrence);
+    }
+
+    /**
+     * 이미 조회한 프로젝트/에러로 알림 전송
+     * <p>
+     * 후속 작업 파이프라인이 배치 단위로 조회한 엔티티를 그대로 넘깁니다.
+     * 트랜잭션을 열지 않으므로 웹훅 HTTP 호출 동안 DB 커넥션을 잡고 있지 않습니다.
+     * </p>
+     */
     public void notifyError(Project project, Error error, ErrorOccurrence occurrence) {
         // 이벤트성 타입은 알림 스킵
         if (IGNORED_ERROR_TYPES.stream().anyMatch(type ->
@@ -96,8 +132,7 @@ public class NotificationService {
 
             try {
                 sendNotification(channel, project, error, occurrence);
-                channel.incrementNotificationCount();
-                channelRepository.save(channel);
+                counterAggregator.increment(CounterType.NOTIFICATION_CHANNEL_SENT, channel.getId());
                 sentCount++;
             } catch (Exception e) {
                 log.error("Failed to send notification via {}: {}",
@@ -116,15 +151,13 @@ public class NotificationService {
         for (WebhookConfig webhook : webhooks) {
             try {
                 sendWebhookNotification(webhook, project, error, occurrence);
-                webhook.recordSuccess();
-                webhookConfigRepository.save(webhook);
+                counterAggregator.increment(CounterType.WEBHOOK_SENT, webhook.getId());
                 sentCount++;
                 log.info("Webhook notification sent: webhookId={}, type={}", webhook.getId(), webhook.getType());
             } catch (Exception e) {
                 log.error("Failed to send webhook notification: webhookId={}, error={}",
                         webhook.getId(), e.getMessage());
-                webhook.recordFailure();
-                webhookConfigRepository.save(webhook);
+                counterAggregator.increment(CounterType.WEBHOOK_FAILURE, webhook.getId());
                 failedCount++;
             }
         }
@@ -0,0 +1,91 @@
+package com.bugshot.domain.priority.controller;
+
+import com.bugshot.domain.priority.dto.PriorityRuleRequest;
+import com.bugshot.domain.priority.dto.PriorityRuleResponse;
+import com.bugshot.domain.priority.service.PriorityRuleService;
+import com.bugshot.global.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 프로젝트 우선순위 가중치 규칙 API
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/priority-rules")
+@RequiredArgsConstructor
+@Slf4j
+public class PriorityRuleController {
+
+    private final PriorityRuleService priorityRuleService;
+
+    /**
+     * 규칙 목록 조회
+     * GET /api/projects/{projectId}/priority-rules
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<PriorityRuleResponse>>> getRules(
+            @PathVariable String projectId,
+            Authentication authentication
+    ) {
+        List<PriorityRuleResponse> rules = priorityRuleService.getRules(authentication.getName(), projectId);
+        return ResponseEntity.ok(ApiResponse.success(rules));
+    }
+
+    /**
+     * 규칙 생성
+     * POST /api/projects/{projectId}/priority-rules
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<PriorityRuleResponse>> createRule(
+            @PathVariable String projectId,
+            @Valid @RequestBody PriorityRuleRequest request,
+            Authentication authentication
+    ) {
+        String userId = authentication.getName();
+        log.info("Create priority rule: userId={}, projectId={}, target={}", userId, projectId, request.getTarget());
+
+        PriorityRuleResponse rule = priorityRuleService.createRule(userId, projectId, request);
+        return ResponseEntity.ok(ApiResponse.success(rule));
+    }
+
+    /**
+     * 규칙 수정
+     * PUT /api/projects/{projectId}/priority-rules/{ruleId}
+     */
+    @PutMapping("/{ruleId}")
+    public ResponseEntity<ApiResponse<PriorityRuleResponse>> updateRule(
+            @PathVariable String projectId,
+            @PathVariable String ruleId,
+            @Valid @RequestBody PriorityRuleRequest request,
+            Authentication authentication
+    ) {
+        String userId = authentication.getName();
+        log.info("Update priority rule: userId={}, ruleId={}", userId, ruleId);
+
+        PriorityRuleResponse rule = priorityRuleService.updateRule(userId, projectId, ruleId, request);
+        return ResponseEntity.ok(ApiResponse.success(rule));
+    }
+
+    /**
+     * 규칙 삭제
+     * DELETE /api/projects/{projectId}/priority-rules/{ruleId}
+     */
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<ApiResponse<Void>> deleteRule(
+            @PathVariable String projectId,
+            @PathVariable String ruleId,
+            Authentication authentication
+    ) {
+        String userId = authentication.getName();
+        log.info("Delete priority rule: userId={}, ruleId={}", userId, ruleId);
+
+        priorityRuleService.deleteRule(userId, projectId, ruleId);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+}
@@ -0,0 +1,62 @@
+package com.bugshot.domain.priority.dto;
+
+import com.bugshot.domain.priority.entity.PriorityRule;
+import com.bugshot.domain.project.entity.Project;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 우선순위 규칙 생성/수정 요청
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriorityRuleRequest {
+    /**
+     * 매칭 대상 (URL, ERROR_TYPE)
+     */
+    @NotNull(message = "규칙 대상은 필수입니다.")
+    private PriorityRule.Target target;
+
+    /**
+     * 매칭 방식 (CONTAINS, PREFIX, SUFFIX, EXACT)
+     */
+    @NotNull(message = "매칭 방식은 필수입니다.")
+    @Builder.Default
+    private PriorityRule.MatchType matchType = PriorityRule.MatchType.CONTAINS;
+
+    /**
+     * 패턴 (대소문자 구분 없음)
+     */
+    @NotBlank(message = "패턴은 필수입니다.")
+    @Size(max = 200, message = "패턴은 200자 이하여야 합니다.")
+    private String pattern;
+
+    /**
+     * 가중치 (일치한 규칙 중 최대값 적용, 일치한 규칙이 없으면 1.0)
+     */
+    @NotNull(message = "가중치는 필수입니다.")
+    @DecimalMin(value = "0.0", message = "가중치는 0 이상이어야 합니다.")
+    @DecimalMax(value = "100.0", message = "가중치는 100 이하여야 합니다.")
+    private BigDecimal weight;
+
+    /**
+     * 결제 등 핵심 페이지 여부 (URL 규칙에만 지정 가능, 심각도 최소 HIGH)
+     */
+    private boolean criticalPage;
+
+    /**
+     * 적용할 프로젝트 환경 (없으면 모든 환경)
+     */
+    private Project.Environment environment;
+}
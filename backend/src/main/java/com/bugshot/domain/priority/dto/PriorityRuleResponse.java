@@ -0,0 +1,45 @@
+package com.bugshot.domain.priority.dto;
+
+import com.bugshot.domain.priority.entity.PriorityRule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 우선순위 규칙 응답
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriorityRuleResponse {
+    private String id;
+    private String projectId;
+    private String target;
+    private String matchType;
+    private String pattern;
+    private BigDecimal weight;
+    private boolean criticalPage;
+    private String environment;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PriorityRuleResponse from(PriorityRule rule, String projectId) {
+        return PriorityRuleResponse.builder()
+                .id(rule.getId())
+                .projectId(projectId)
+                .target(rule.getTarget().name())
+                .matchType(rule.getMatchType().name())
+                .pattern(rule.getPattern())
+                .weight(rule.getWeight())
+                .criticalPage(rule.isCriticalPage())
+                .environment(rule.getEnvironment() != null ? rule.getEnvironment().name() : null)
+                .createdAt(rule.getCreatedAt())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.bugshot.domain.priority.entity;
+
+import com.bugshot.domain.project.entity.Project;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트별 우선순위 가중치 규칙
+ * <p>
+ * 발생 URL 또는 에러 타입이 패턴과 일치하면 우선순위 계산에 weight를 곱합니다.
+ * 패턴은 대소문자를 구분하지 않고, environment를 지정하면 프로젝트 환경이 같을 때만 적용됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "priority_rules", indexes = {
+    @Index(name = "idx_priority_rule_project", columnList = "project_id")
+})
+@DynamicUpdate
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PriorityRule {
+
+    @Id
+    @GeneratedValue(generator = "uuid")
+    @GenericGenerator(name = "uuid", strategy = "uuid2")
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Target target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "match_type", nullable = false, length = 20)
+    private MatchType matchType;
+
+    @Column(nullable = false, length = 200)
+    private String pattern;
+
+    @Column(nullable = false, precision = 6, scale = 2)
+    private BigDecimal weight;
+
+    /**
+     * URL 규칙에서 결제 등 핵심 페이지로 취급할지 여부 (심각도 최소 HIGH)
+     */
+    @Column(name = "critical_page", nullable = false)
+    private boolean criticalPage;
+
+    /**
+     * 적용할 프로젝트 환경 (null이면 모든 환경)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Project.Environment environment;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 규칙 수정
+     */
+    public void update(Target target, MatchType matchType, String pattern, BigDecimal weight,
+                       boolean criticalPage, Project.Environment environment) {
+        this.target = target;
+        this.matchType = matchType;
+        this.pattern = pattern;
+        this.weight = weight;
+        this.criticalPage = criticalPage;
+        this.environment = environment;
+    }
+
+    public enum Target {
+        URL,
+        ERROR_TYPE
+    }
+
+    public enum MatchType {
+        CONTAINS,
+        PREFIX,
+        SUFFIX,
+        EXACT
+    }
+}
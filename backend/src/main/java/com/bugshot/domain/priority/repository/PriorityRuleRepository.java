@@ -0,0 +1,18 @@
+package com.bugshot.domain.priority.repository;
+
+import com.bugshot.domain.priority.entity.PriorityRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PriorityRuleRepository extends JpaRepository<PriorityRule, String> {
+
+    List<PriorityRule> findByProjectIdOrderByCreatedAtAsc(String projectId);
+
+    Optional<PriorityRule> findByIdAndProjectId(String id, String projectId);
+
+    long countByProjectId(String projectId);
+}
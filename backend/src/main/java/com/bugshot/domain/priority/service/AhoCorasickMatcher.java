@@ -0,0 +1,157 @@
+package com.bugshot.domain.priority.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 여러 패턴을 입력 한 번 순회로 찾는 Aho-Corasick 오토마톤 (불변, 스레드 안전)
+ * <p>
+ * 패턴 수와 무관하게 O(입력 길이 + 매치 수)로 모든 매치를 찾습니다.
+ * 상태 전이는 상태별 정렬된 문자 배열 + 이진 탐색으로 보관하고,
+ * 실패 링크를 따라 도달하는 출력은 빌드 시 상태별 출력 목록에 미리 합쳐 둡니다.
+ * </p>
+ *
+ * @param <T> 패턴에 연결된 값 (매치 시 전달)
+ */
+public final class AhoCorasickMatcher<T> {
+
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    private final Object[][] outputs;
+
+    private AhoCorasickMatcher(char[][] transitionChars, int[][] transitionTargets, int[] failure, Object[][] outputs) {
+        this.transitionChars = transitionChars;
+        this.transitionTargets = transitionTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * 입력에 포함된 모든 패턴의 값 전달 (같은 패턴이 여러 위치에 있으면 위치마다 전달)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachMatch(CharSequence input, Consumer<T> consumer) {
+        int state = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = Math.max(next, 0);
+            for (Object value : outputs[state]) {
+                consumer.accept((T) value);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return transitionChars[0].length == 0;
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(transitionChars[state], c);
+        return index >= 0 ? transitionTargets[state][index] : -1;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Map<Character, Integer>> trie = new ArrayList<>();
+        private final List<List<Object>> nodeOutputs = new ArrayList<>();
+
+        private Builder() {
+            addNode();
+        }
+
+        public Builder<T> add(String pattern, T value) {
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("pattern must not be empty");
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = addNode();
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            nodeOutputs.get(state).add(value);
+            return this;
+        }
+
+        public AhoCorasickMatcher<T> build() {
+            int size = trie.size();
+            char[][] chars = new char[size][];
+            int[][] targets = new int[size][];
+            for (int state = 0; state < size; state++) {
+                Map<Character, Integer> edges = trie.get(state);
+                chars[state] = new char[edges.size()];
+                targets[state] = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    chars[state][i] = edge.getKey();
+                    targets[state][i] = edge.getValue();
+                    i++;
+                }
+            }
+
+            // BFS로 실패 링크 계산 - 부모의 실패 링크를 따라가며 같은 문자로 전이 가능한 가장 긴 접미사 상태
+            int[] failure = new int[size];
+            List<List<Object>> merged = new ArrayList<>(nodeOutputs);
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : targets[0]) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < chars[state].length; i++) {
+                    char c = chars[state][i];
+                    int child = targets[state][i];
+                    int fallback = failure[state];
+                    int next;
+                    while ((next = find(chars[fallback], targets[fallback], c)) < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = next >= 0 && next != child ? next : 0;
+
+                    // 실패 링크 상태의 출력(더 짧은 접미사 패턴)을 미리 합침 - BFS 순서라 이미 합쳐진 상태
+                    if (!merged.get(failure[child]).isEmpty()) {
+                        List<Object> combined = new ArrayList<>(merged.get(child));
+                        combined.addAll(merged.get(failure[child]));
+                        merged.set(child, combined);
+                    }
+                    queue.add(child);
+                }
+            }
+
+            Object[][] outputs = new Object[size][];
+            for (int state = 0; state < size; state++) {
+                outputs[state] = merged.get(state).toArray();
+            }
+            return new AhoCorasickMatcher<>(chars, targets, failure, outputs);
+        }
+
+        private int addNode() {
+            trie.add(new TreeMap<>());
+            nodeOutputs.add(new ArrayList<>());
+            return trie.size() - 1;
+        }
+
+        private static int find(char[] chars, int[] targets, char c) {
+            int index = Arrays.binarySearch(chars, c);
+            return index >= 0 ? targets[index] : -1;
+        }
+    }
+}
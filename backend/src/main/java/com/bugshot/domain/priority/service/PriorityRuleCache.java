@@ -0,0 +1,131 @@
+package com.bugshot.domain.priority.service;
+
+import com.bugshot.domain.priority.entity.PriorityRule;
+import com.bugshot.domain.priority.repository.PriorityRuleRepository;
+import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 프로젝트 ID → 컴파일된 우선순위 규칙 로컬 캐시
+ * <p>
+ * 우선순위를 계산할 때마다 규칙을 조회/컴파일하지 않도록 프로젝트별 PriorityRuleSet을 Caffeine 캐시에 보관합니다.
+ * </p>
+ *
+ * <pre>
+ * - 규칙 생성/수정/삭제, 프로젝트 환경 변경 시 커밋 후 무효화 → 다음 조회에서 다시 컴파일
+ * - 다른 노드에는 Redis pub/sub 채널로 무효화 전파 (전파 실패 시에도 ttl-seconds 내에 정리됨)
+ * - 규칙이 없는 프로젝트는 공유 기본 규칙 집합(PriorityRuleSet.DEFAULT) 사용
+ * - 메트릭: cache.* (name=priorityRules)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class PriorityRuleCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "bugshot:priority-rules:invalidate";
+
+    private final PriorityRuleRepository ruleRepository;
+    private final ProjectRepository projectRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoadingCache<String, PriorityRuleSet> cache;
+
+    public PriorityRuleCache(PriorityRuleRepository ruleRepository,
+                             ProjectRepository projectRepository,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.priority-rules.cache.maximum-size:10000}") long maximumSize,
+                             @Value("${app.priority-rules.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.ruleRepository = ruleRepository;
+        this.projectRepository = projectRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(this::compile);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "priorityRules");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 프로젝트의 컴파일된 규칙 집합 (projectId가 null이면 기본 규칙)
+     */
+    public PriorityRuleSet get(String projectId) {
+        return projectId != null ? cache.get(projectId) : PriorityRuleSet.DEFAULT;
+    }
+
+    /**
+     * 프로젝트 규칙 캐시 무효화 (트랜잭션 안이면 커밋 후 실행)
+     */
+    public void invalidate(String projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndPublish(projectId);
+                }
+            });
+        } else {
+            invalidateAndPublish(projectId);
+        }
+    }
+
+    /**
+     * 다른 노드에서 보낸 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+        log.debug("Priority rule cache invalidated by broadcast");
+    }
+
+    private void invalidateAndPublish(String projectId) {
+        cache.invalidate(projectId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, projectId);
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료로 정리됨
+            log.warn("Failed to broadcast priority rule invalidation: {}", e.getMessage());
+        }
+    }
+
+    private PriorityRuleSet compile(String projectId) {
+        List<PriorityRule> rules = ruleRepository.findByProjectIdOrderByCreatedAtAsc(projectId);
+        if (rules.isEmpty()) {
+            return PriorityRuleSet.DEFAULT;
+        }
+        Project.Environment environment = projectRepository.findById(projectId)
+                .map(Project::getEnvironment)
+                .orElse(null);
+        PriorityRuleSet ruleSet = PriorityRuleSet.compile(rules, environment);
+        log.debug("Priority rules compiled: projectId={}, rules={}", projectId, ruleSet.projectRuleCount());
+        return ruleSet;
+    }
+}
@@ -0,0 +1,135 @@
+package com.bugshot.domain.priority.service;
+
+import com.bugshot.domain.priority.dto.PriorityRuleRequest;
+import com.bugshot.domain.priority.dto.PriorityRuleResponse;
+import com.bugshot.domain.priority.entity.PriorityRule;
+import com.bugshot.domain.priority.repository.PriorityRuleRepository;
+import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.exception.BusinessException;
+import com.bugshot.global.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 프로젝트 우선순위 규칙 관리 서비스
+ * <p>
+ * 변경은 커밋 후 PriorityRuleCache를 무효화하므로 다음 우선순위 계산부터 새 규칙이 적용됩니다.
+ * 이미 계산된 점수는 다음 발생 또는 일괄 재계산 때 반영됩니다.
+ * </p>
+ */
+@Service
+@Slf4j
+public class PriorityRuleService {
+
+    private final PriorityRuleRepository ruleRepository;
+    private final ProjectRepository projectRepository;
+    private final PriorityRuleCache ruleCache;
+    private final int maxRulesPerProject;
+
+    public PriorityRuleService(PriorityRuleRepository ruleRepository,
+                               ProjectRepository projectRepository,
+                               PriorityRuleCache ruleCache,
+                               @Value("${app.priority-rules.max-per-project:200}") int maxRulesPerProject) {
+        this.ruleRepository = ruleRepository;
+        this.projectRepository = projectRepository;
+        this.ruleCache = ruleCache;
+        this.maxRulesPerProject = maxRulesPerProject;
+    }
+
+    /**
+     * 프로젝트 규칙 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PriorityRuleResponse> getRules(String userId, String projectId) {
+        Project project = getOwnedProject(userId, projectId);
+        return ruleRepository.findByProjectIdOrderByCreatedAtAsc(project.getId()).stream()
+                .map(rule -> PriorityRuleResponse.from(rule, projectId))
+                .toList();
+    }
+
+    /**
+     * 규칙 생성
+     */
+    @Transactional
+    public PriorityRuleResponse createRule(String userId, String projectId, PriorityRuleRequest request) {
+        validate(request);
+        Project project = getOwnedProject(userId, projectId);
+        if (ruleRepository.countByProjectId(projectId) >= maxRulesPerProject) {
+            throw new BusinessException("프로젝트당 우선순위 규칙은 최대 " + maxRulesPerProject + "개까지 만들 수 있습니다.");
+        }
+
+        PriorityRule rule = PriorityRule.builder()
+                .project(project)
+                .target(request.getTarget())
+                .matchType(request.getMatchType())
+                .pattern(request.getPattern())
+                .weight(request.getWeight())
+                .criticalPage(request.isCriticalPage())
+                .environment(request.getEnvironment())
+                .build();
+
+        rule = ruleRepository.save(rule);
+        ruleCache.invalidate(projectId);
+        log.info("Priority rule created: id={}, projectId={}, target={}", rule.getId(), projectId, rule.getTarget());
+
+        return PriorityRuleResponse.from(rule, projectId);
+    }
+
+    /**
+     * 규칙 수정
+     */
+    @Transactional
+    public PriorityRuleResponse updateRule(String userId, String projectId, String ruleId, PriorityRuleRequest request) {
+        validate(request);
+        getOwnedProject(userId, projectId);
+        PriorityRule rule = ruleRepository.findByIdAndProjectId(ruleId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("우선순위 규칙", ruleId));
+
+        rule.update(
+                request.getTarget(),
+                request.getMatchType(),
+                request.getPattern(),
+                request.getWeight(),
+                request.isCriticalPage(),
+                request.getEnvironment()
+        );
+
+        ruleCache.invalidate(projectId);
+        log.info("Priority rule updated: id={}", ruleId);
+
+        return PriorityRuleResponse.from(rule, projectId);
+    }
+
+    /**
+     * 규칙 삭제
+     */
+    @Transactional
+    public void deleteRule(String userId, String projectId, String ruleId) {
+        getOwnedProject(userId, projectId);
+        PriorityRule rule = ruleRepository.findByIdAndProjectId(ruleId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("우선순위 규칙", ruleId));
+
+        ruleRepository.delete(rule);
+        ruleCache.invalidate(projectId);
+        log.info("Priority rule deleted: id={}", ruleId);
+    }
+
+    /**
+     * 핵심 페이지 여부는 URL 규칙에만 적용 (에러 타입 규칙에 지정하면 아무 효과 없이 저장되므로 거부)
+     */
+    private void validate(PriorityRuleRequest request) {
+        if (request.isCriticalPage() && request.getTarget() != PriorityRule.Target.URL) {
+            throw new BusinessException("핵심 페이지 여부는 URL 규칙에만 지정할 수 있습니다.");
+        }
+    }
+
+    private Project getOwnedProject(String userId, String projectId) {
+        return projectRepository.findByUserIdAndProjectId(userId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("프로젝트", projectId));
+    }
+}
@@ -0,0 +1,185 @@
+package com.bugshot.domain.priority.service;
+
+import com.bugshot.domain.priority.entity.PriorityRule;
+import com.bugshot.domain.priority.entity.PriorityRule.MatchType;
+import com.bugshot.domain.priority.entity.PriorityRule.Target;
+import com.bugshot.domain.project.entity.Project;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 프로젝트의 우선순위 규칙을 컴파일한 매처 (불변, 스레드 안전)
+ * <p>
+ * Error의 String.contains 체인(/checkout, typeerror ...)을 기본 규칙으로 옮기고,
+ * 프로젝트 규칙과 함께 대상(URL, 에러 타입)별 Aho-Corasick 오토마톤 하나로 컴파일합니다.
+ * 규칙이 몇 개든 입력 한 번 순회(O(입력 길이 + 매치 수))로 가중치를 구합니다.
+ * </p>
+ *
+ * <pre>
+ * - 대소문자 구분 없음 (입력과 패턴 모두 소문자로 변환)
+ * - PREFIX / SUFFIX / EXACT는 입력 앞뒤에 경계 문자를 붙이고 패턴에도 붙여 부분 문자열 매치로 처리
+ * - 가중치: 일치한 규칙 중 최대값, 일치한 규칙이 없으면 1.0
+ * - 프로젝트 규칙이 하나라도 일치하면 그 대상에 대해서는 기본 규칙을 무시 (프로젝트 규칙이 우선)
+ * - 핵심 페이지 여부: 적용된 URL 규칙 중 하나라도 criticalPage면 true (에러 타입 규칙에는 지정할 수 없음)
+ * - 환경이 지정된 규칙은 컴파일 시 프로젝트 환경으로 걸러냄
+ * </pre>
+ */
+public final class PriorityRuleSet {
+
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+
+    /**
+     * 기존 Error.determinePageWeight / determineErrorTypeWeight / 결제 페이지 판단과 같은 결과를 내는 기본 규칙
+     */
+    private static final List<CompiledRule> DEFAULT_RULES = List.of(
+            // 결제/체크아웃 - 최고 우선순위
+            defaultRule(Target.URL, MatchType.CONTAINS, "/checkout", 10.0, true),
+            defaultRule(Target.URL, MatchType.CONTAINS, "/payment", 10.0, true),
+            defaultRule(Target.URL, MatchType.CONTAINS, "/order", 10.0, false),
+            // 인증 관련
+            defaultRule(Target.URL, MatchType.CONTAINS, "/login", 8.0, false),
+            defaultRule(Target.URL, MatchType.CONTAINS, "/signup", 8.0, false),
+            defaultRule(Target.URL, MatchType.CONTAINS, "/auth", 8.0, false),
+            // 핵심 기능
+            defaultRule(Target.URL, MatchType.CONTAINS, "/dashboard", 5.0, false),
+            defaultRule(Target.URL, MatchType.CONTAINS, "/api/", 5.0, false),
+            // 홈페이지
+            defaultRule(Target.URL, MatchType.EXACT, "/", 3.0, false),
+            defaultRule(Target.URL, MatchType.SUFFIX, ".com", 3.0, false),
+            defaultRule(Target.URL, MatchType.SUFFIX, ".kr", 3.0, false),
+
+            // Critical 타입들 - 코드 버그 가능성 높음
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "typeerror", 2.5, false),
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "referenceerror", 2.5, false),
+            // High 타입들 - 런타임 에러
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "syntaxerror", 2.0, false),
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "rangeerror", 2.0, false),
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "urierror", 2.0, false),
+            // Medium 타입들 - 네트워크/비동기 관련
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "networkerror", 1.5, false),
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "fetcherror", 1.5, false),
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "promise", 1.5, false),
+            // 일반 에러
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "error", 1.2, false),
+            // 세션/이벤트 관련 - 상대적으로 낮은 우선순위
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "session", 0.8, false),
+            defaultRule(Target.ERROR_TYPE, MatchType.CONTAINS, "event", 0.8, false)
+    );
+
+    /**
+     * 프로젝트 규칙이 없을 때 사용하는 기본 규칙 집합
+     */
+    public static final PriorityRuleSet DEFAULT = compile(List.of(), null);
+
+    private final AhoCorasickMatcher<CompiledRule> urlMatcher;
+    private final AhoCorasickMatcher<CompiledRule> errorTypeMatcher;
+    private final int projectRuleCount;
+
+    private PriorityRuleSet(AhoCorasickMatcher<CompiledRule> urlMatcher,
+                            AhoCorasickMatcher<CompiledRule> errorTypeMatcher,
+                            int projectRuleCount) {
+        this.urlMatcher = urlMatcher;
+        this.errorTypeMatcher = errorTypeMatcher;
+        this.projectRuleCount = projectRuleCount;
+    }
+
+    /**
+     * 프로젝트 규칙 + 기본 규칙 컴파일
+     *
+     * @param environment 프로젝트 환경 (환경이 지정된 규칙 필터링, null이면 환경 지정 규칙 제외)
+     */
+    public static PriorityRuleSet compile(List<PriorityRule> rules, Project.Environment environment) {
+        AhoCorasickMatcher.Builder<CompiledRule> url = AhoCorasickMatcher.builder();
+        AhoCorasickMatcher.Builder<CompiledRule> errorType = AhoCorasickMatcher.builder();
+
+        int projectRuleCount = 0;
+        for (PriorityRule rule : rules) {
+            if (rule.getEnvironment() != null && rule.getEnvironment() != environment) {
+                continue;
+            }
+            CompiledRule compiled = new CompiledRule(rule.getWeight().doubleValue(), rule.isCriticalPage(), true);
+            String pattern = anchor(rule.getMatchType(), rule.getPattern());
+            (rule.getTarget() == Target.URL ? url : errorType).add(pattern, compiled);
+            projectRuleCount++;
+        }
+        for (CompiledRule rule : DEFAULT_RULES) {
+            (rule.target == Target.URL ? url : errorType).add(rule.pattern, rule);
+        }
+
+        return new PriorityRuleSet(url.build(), errorType.build(), projectRuleCount);
+    }
+
+    /**
+     * 발생 URL과 에러 타입의 가중치 계산
+     */
+    public PriorityWeights weigh(String url, String errorType) {
+        Result page = match(urlMatcher, url);
+        Result type = match(errorTypeMatcher, errorType);
+        return new PriorityWeights(page.weight(), type.weight(), page.criticalPage());
+    }
+
+    public int projectRuleCount() {
+        return projectRuleCount;
+    }
+
+    private static Result match(AhoCorasickMatcher<CompiledRule> matcher, String input) {
+        if (input == null) {
+            return Result.NONE;
+        }
+        Accumulator project = new Accumulator();
+        Accumulator defaults = new Accumulator();
+        matcher.forEachMatch(START + input.toLowerCase(Locale.ROOT) + END,
+                rule -> (rule.projectRule ? project : defaults).accept(rule));
+        return project.matched ? project.result() : defaults.result();
+    }
+
+    private static String anchor(MatchType matchType, String pattern) {
+        String normalized = pattern.toLowerCase(Locale.ROOT);
+        return switch (matchType) {
+            case CONTAINS -> normalized;
+            case PREFIX -> START + normalized;
+            case SUFFIX -> normalized + END;
+            case EXACT -> START + normalized + END;
+        };
+    }
+
+    private static CompiledRule defaultRule(Target target, MatchType matchType, String pattern,
+                                            double weight, boolean criticalPage) {
+        return new CompiledRule(target, anchor(matchType, pattern), weight, criticalPage, false);
+    }
+
+    /**
+     * 오토마톤에 실리는 규칙 값
+     */
+    private record CompiledRule(Target target, String pattern, double weight, boolean criticalPage,
+                                boolean projectRule) {
+
+        private CompiledRule(double weight, boolean criticalPage, boolean projectRule) {
+            this(null, null, weight, criticalPage, projectRule);
+        }
+    }
+
+    private record Result(double weight, boolean criticalPage) {
+
+        private static final Result NONE = new Result(1.0, false);
+    }
+
+    private static final class Accumulator {
+
+        private boolean matched;
+        private double weight;
+        private boolean criticalPage;
+
+        private void accept(CompiledRule rule) {
+            weight = matched ? Math.max(weight, rule.weight()) : rule.weight();
+            criticalPage |= rule.criticalPage();
+            matched = true;
+        }
+
+        private Result result() {
+            return matched ? new Result(weight, criticalPage) : Result.NONE;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.bugshot.domain.priority.service;
+
+/**
+ * 규칙 매칭 결과 - Error.calculatePriority 입력
+ *
+ * @param pageWeight      발생 URL 가중치
+ * @param errorTypeWeight 에러 타입 가중치
+ * @param criticalPage    결제 등 핵심 페이지 여부 (심각도 최소 HIGH)
+ */
+public record PriorityWeights(double pageWeight, double errorTypeWeight, boolean criticalPage) {
+
+    public static final PriorityWeights NEUTRAL = new PriorityWeights(1.0, 1.0, false);
+}
@@ -40,7 +40,11 @@ public class ProjectResponse {
         private LocalDateTime lastErrorAt;
     }
 
-    public static ProjectResponse from(Project project) {
+    /**
+     * @param pendingErrors 아직 DB에 반영되지 않은 에러 수 (CounterAggregator.pending)
+     */
+    public static ProjectResponse from(Project project, long pendingErrors) {
+        int totalErrors = project.getTotalErrors() != null ? project.getTotalErrors() : 0;
         return ProjectResponse.builder()
             .id(project.getId())
             .name(project.getName())
@@ -50,7 +54,7 @@ public class ProjectResponse {
             .sessionReplayEnabled(project.getSessionReplayEnabled())
             .sessionReplaySampleRate(project.getSessionReplaySampleRate())
             .stats(StatsInfo.builder()
-                .totalErrors(project.getTotalErrors())
+                .totalErrors((int) (totalErrors + pendingErrors))
                 .totalUsersAffected(project.getTotalUsersAffected())
                 .lastErrorAt(project.getLastErrorAt())
                 .build())
@@ -60,11 +64,12 @@ public class ProjectResponse {
     }
 
     public static ProjectResponse fromWithStats(Project project,
+                                                  long pendingErrors,
                                                   long criticalCount,
                                                   long highCount,
                                                   long mediumCount,
                                                   long lowCount) {
-        ProjectResponse response = from(project);
+        ProjectResponse response = from(project, pendingErrors);
         response.getStats().setCriticalCount(criticalCount);
         response.getStats().setHighCount(highCount);
         response.getStats().setMediumCount(mediumCount);
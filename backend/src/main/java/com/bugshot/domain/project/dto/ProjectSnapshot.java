@@ -0,0 +1,31 @@
+package com.bugshot.domain.project.dto;
+
+import com.bugshot.domain.project.entity.Project;
+
+import java.math.BigDecimal;
+
+/**
+ * 수집 경로에서 사용하는 프로젝트 요약 정보
+ * <p>
+ * API 키 → 프로젝트 조회 결과를 캐시하기 위한 불변 객체입니다.
+ * 엔티티를 캐시하지 않으므로 영속성 컨텍스트/지연 로딩과 무관하게 스레드 간 공유할 수 있습니다.
+ * </p>
+ */
+public record ProjectSnapshot(
+        String id,
+        String name,
+        boolean sessionReplayEnabled,
+        BigDecimal sessionReplaySampleRate,
+        Project.Environment environment
+) {
+
+    public static ProjectSnapshot from(Project project) {
+        return new ProjectSnapshot(
+                project.getId(),
+                project.getName(),
+                Boolean.TRUE.equals(project.getSessionReplayEnabled()),
+                project.getSessionReplaySampleRate(),
+                project.getEnvironment()
+        );
+    }
+}
@@ -5,6 +5,7 @@ import com.bugshot.domain.common.BaseEntity;
 import com.bugshot.domain.error.entity.Error;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "projects")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -82,15 +84,6 @@ public class Project extends BaseEntity {
     }
 
     // Business Methods
-    public void incrementErrorCount() {
-        this.totalErrors++;
-        this.lastErrorAt = LocalDateTime.now();
-    }
-
-    public void updateUsersAffected(int count) {
-        this.totalUsersAffected = count;
-    }
-
     public String regenerateApiKey() {
         this.apiKey = generateApiKey();
         return this.apiKey;
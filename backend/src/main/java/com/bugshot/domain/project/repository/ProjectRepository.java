@@ -2,10 +2,12 @@ package com.bugshot.domain.project.repository;
 
 import com.bugshot.domain.project.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
 
     Optional<Project> findByApiKey(String apiKey);
 
+    List<Project> findByApiKeyIn(Collection<String> apiKeys);
+
     boolean existsByApiKey(String apiKey);
 
     @Query("SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId")
@@ -24,4 +28,11 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
     @Query("SELECT p FROM Project p WHERE p.user.id = :userId AND p.id = :projectId")
     Optional<Project> findByUserIdAndProjectId(@Param("userId") String userId,
                                                  @Param("projectId") String projectId);
+
+    /**
+     * 영향받은 고유 사용자 수 갱신 (프로젝트 사용자 스케치의 추정값)
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.totalUsersAffected = :count WHERE p.id = :projectId")
+    int updateTotalUsersAffected(@Param("projectId") String projectId, @Param("count") int count);
 }
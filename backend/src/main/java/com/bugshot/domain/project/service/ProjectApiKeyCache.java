@@ -0,0 +1,201 @@
+package com.bugshot.domain.project.service;
+
+import com.bugshot.domain.project.dto.ProjectSnapshot;
+import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.exception.InvalidApiKeyException;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * API 키 → 프로젝트 스냅샷 로컬 캐시
+ * <p>
+ * 모든 수집 요청이 projects 테이블을 조회하지 않도록 Caffeine 캐시에 보관합니다.
+ * 존재하지 않는 키도 짧은 TTL로 음성 캐시(negative entry)하여 키 스캐닝 요청이 DB까지 가지 않게 합니다.
+ * </p>
+ *
+ * <pre>
+ * - 양성 항목: positive-ttl (기본 5분), 음성 항목: negative-ttl (기본 30초)
+ * - API 키 재발급/프로젝트 수정/삭제 시 커밋 후 무효화
+ * - 다른 노드에는 Redis pub/sub 채널로 무효화 전파 (전파 실패 시에도 TTL 내에 정리됨)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class ProjectApiKeyCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "bugshot:project-api-key:invalidate";
+
+    private final ProjectRepository projectRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoadingCache<String, Optional<ProjectSnapshot>> cache;
+
+    public ProjectApiKeyCache(ProjectRepository projectRepository,
+                              StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.project-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${app.project-cache.positive-ttl-seconds:300}") long positiveTtlSeconds,
+                              @Value("${app.project-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.projectRepository = projectRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new SnapshotExpiry(
+                        Duration.ofSeconds(positiveTtlSeconds).toNanos(),
+                        Duration.ofSeconds(negativeTtlSeconds).toNanos()))
+                .recordStats()
+                .build(new SnapshotLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projectApiKey");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * API 키로 프로젝트 조회
+     *
+     * @throws InvalidApiKeyException 존재하지 않는 키
+     */
+    public ProjectSnapshot resolve(String apiKey) {
+        if (apiKey == null) {
+            throw new InvalidApiKeyException();
+        }
+        return cache.get(apiKey).orElseThrow(InvalidApiKeyException::new);
+    }
+
+    /**
+     * 여러 API 키를 한 번에 조회 (캐시에 없는 키만 IN 쿼리 한 번으로 로드)
+     *
+     * @return 유효한 키만 담은 Map
+     */
+    public Map<String, ProjectSnapshot> resolveAll(Collection<String> apiKeys) {
+        Set<String> keys = apiKeys.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, ProjectSnapshot> result = new HashMap<>();
+        cache.getAll(keys).forEach((apiKey, snapshot) -> snapshot.ifPresent(s -> result.put(apiKey, s)));
+        return result;
+    }
+
+    /**
+     * API 키 캐시 무효화 (트랜잭션 안이면 커밋 후 실행)
+     */
+    public void invalidate(String... apiKeys) {
+        List<String> keys = Arrays.stream(apiKeys).filter(Objects::nonNull).toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndPublish(keys);
+                }
+            });
+        } else {
+            invalidateAndPublish(keys);
+        }
+    }
+
+    /**
+     * 다른 노드에서 보낸 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String apiKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidate(apiKey);
+        log.debug("Project API key cache invalidated by broadcast");
+    }
+
+    private void invalidateAndPublish(List<String> apiKeys) {
+        cache.invalidateAll(apiKeys);
+        for (String apiKey : apiKeys) {
+            try {
+                stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, apiKey);
+            } catch (Exception e) {
+                // 다른 노드는 TTL 만료로 정리됨
+                log.warn("Failed to broadcast project API key invalidation: {}", e.getMessage());
+            }
+        }
+    }
+
+    private class SnapshotLoader implements CacheLoader<String, Optional<ProjectSnapshot>> {
+
+        @Override
+        public Optional<ProjectSnapshot> load(String apiKey) {
+            return projectRepository.findByApiKey(apiKey).map(ProjectSnapshot::from);
+        }
+
+        @Override
+        public Map<String, Optional<ProjectSnapshot>> loadAll(Set<? extends String> apiKeys) {
+            Map<String, ProjectSnapshot> found = projectRepository.findByApiKeyIn(List.copyOf(apiKeys)).stream()
+                    .collect(Collectors.toMap(Project::getApiKey, ProjectSnapshot::from));
+
+            // 조회되지 않은 키는 음성 항목으로 캐시
+            Map<String, Optional<ProjectSnapshot>> result = new HashMap<>();
+            for (String apiKey : apiKeys) {
+                result.put(apiKey, Optional.ofNullable(found.get(apiKey)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 음성 항목은 짧게, 양성 항목은 길게 유지
+     */
+    private record SnapshotExpiry(long positiveTtlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<ProjectSnapshot>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<ProjectSnapshot> value, long currentTime) {
+            return value.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<ProjectSnapshot> value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<ProjectSnapshot> value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.bugshot.domain.auth.entity.User;
 import com.bugshot.domain.auth.repository.UserRepository;
 import com.bugshot.domain.error.entity.Error;
 import com.bugshot.domain.error.repository.ErrorRepository;
+import com.bugshot.domain.priority.service.PriorityRuleCache;
 import com.bugshot.domain.project.dto.ProjectRequest;
 import com.bugshot.domain.project.dto.ProjectResponse;
 import com.bugshot.domain.project.entity.Project;
 import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.counter.CounterAggregator;
+import com.bugshot.global.counter.CounterType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -28,6 +31,9 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ErrorRepository errorRepository;
+    private final ProjectApiKeyCache projectApiKeyCache;
+    private final PriorityRuleCache priorityRuleCache;
+    private final CounterAggregator counterAggregator;
 
     @CacheEvict(value = "userProjects", key = "#userId")
     @Transactional
@@ -54,7 +60,7 @@ public class ProjectService {
         project = projectRepository.save(project);
         log.info("Created project: id={}, name={}, user={}", project.getId(), project.getName(), userId);
 
-        return ProjectResponse.from(project);
+        return ProjectResponse.from(project, 0);
     }
 
     @Cacheable(value = "userProjects", key = "#userId")
@@ -82,6 +88,7 @@ public class ProjectService {
                 );
                 return ProjectResponse.fromWithStats(
                     project,
+                    pendingErrors(project),
                     counts.getOrDefault(Error.Severity.CRITICAL, 0L),
                     counts.getOrDefault(Error.Severity.HIGH, 0L),
                     counts.getOrDefault(Error.Severity.MEDIUM, 0L),
@@ -122,6 +129,7 @@ public class ProjectService {
 
         return ProjectResponse.fromWithStats(
             project,
+            pendingErrors(project),
             counts.getOrDefault(Error.Severity.CRITICAL, 0L),
             counts.getOrDefault(Error.Severity.HIGH, 0L),
             counts.getOrDefault(Error.Severity.MEDIUM, 0L),
@@ -162,9 +170,19 @@ public class ProjectService {
         );
 
         project = projectRepository.save(project);
+        projectApiKeyCache.invalidate(project.getApiKey());
+        // 환경별 규칙이 다시 걸러지도록 컴파일된 우선순위 규칙도 무효화
+        priorityRuleCache.invalidate(projectId);
         log.info("Updated project: id={}", projectId);
 
-        return ProjectResponse.from(project);
+        return ProjectResponse.from(project, pendingErrors(project));
+    }
+
+    /**
+     * 아직 flush되지 않은 에러 수 (CounterAggregator)
+     */
+    private long pendingErrors(Project project) {
+        return counterAggregator.pending(CounterType.PROJECT_TOTAL_ERRORS, project.getId());
     }
 
     @CacheEvict(value = {"userProjects", "project"}, allEntries = true)
@@ -174,6 +192,7 @@ public class ProjectService {
             .orElseThrow(() -> new IllegalArgumentException("Project not found or access denied"));
 
         projectRepository.delete(project);
+        projectApiKeyCache.invalidate(project.getApiKey());
         log.info("Deleted project: id={}, user={}", projectId, userId);
     }
 
@@ -183,8 +202,10 @@ public class ProjectService {
         Project project = projectRepository.findByUserIdAndProjectId(userId, projectId)
             .orElseThrow(() -> new IllegalArgumentException("Project not found or access denied"));
 
+        String oldApiKey = project.getApiKey();
         String newApiKey = project.regenerateApiKey();
         projectRepository.save(project);
+        projectApiKeyCache.invalidate(oldApiKey, newApiKey);
 
         log.info("Regenerated API key for project: id={}", projectId);
         return newApiKey;
@@ -0,0 +1,87 @@
+package com.bugshot.domain.replay.controller;
+
+import com.bugshot.domain.project.dto.ProjectSnapshot;
+import com.bugshot.domain.project.service.ProjectApiKeyCache;
+import com.bugshot.domain.replay.dto.ReplayUploadResponse;
+import com.bugshot.domain.replay.service.ReplayUploadService;
+import com.bugshot.global.dto.ApiResponse;
+import com.bugshot.global.ratelimit.RateLimitDecision;
+import com.bugshot.global.ratelimit.RateLimitService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 세션 리플레이 업로드 API - SDK에서 호출
+ * <p>
+ * 에러 수집 요청에 리플레이를 함께 싣지 않고, 에러 전송 후 응답의 occurrenceId로 따로 업로드합니다.
+ * 본문은 JSON 바인딩 없이 스트림으로 읽으므로 큰 리플레이도 요청 스레드 메모리에 올라가지 않습니다.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/ingest/replay")
+@RequiredArgsConstructor
+@Slf4j
+public class ReplayUploadController {
+
+    private final ReplayUploadService replayUploadService;
+    private final ProjectApiKeyCache projectApiKeyCache;
+    private final RateLimitService rateLimitService;
+
+    /**
+     * 리플레이 청크 업로드
+     *
+     * POST /api/ingest/replay?sessionId=...&occurrenceId=...&chunk=0&final=true
+     * Header: X-API-Key
+     * Body: events JSON 배열 (또는 그 조각)
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReplayUploadResponse>> upload(
+            @RequestHeader("X-API-Key") String apiKey,
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String occurrenceId,
+            @RequestParam(defaultValue = "0") int chunk,
+            @RequestParam(name = "final", defaultValue = "true") boolean last,
+            @RequestParam(required = false) Integer durationMs,
+            @RequestParam(required = false) Integer eventsCount,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) throws Exception {
+
+        ProjectSnapshot project = projectApiKeyCache.resolve(apiKey);
+
+        if (!project.sessionReplayEnabled()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponse.error("Session replay is disabled for this project"));
+        }
+
+        // Rate Limiting: 에러 수집과 별도 한도
+        RateLimitDecision rateLimit = rateLimitService.checkReplayUpload(apiKey, getClientIpAddress(httpRequest));
+        rateLimit.applyTo(httpResponse);
+        if (!rateLimit.allowed()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error("Rate limit exceeded. Please try again later."));
+        }
+
+        ReplayUploadResponse response = replayUploadService.appendChunk(
+                project, sessionId, occurrenceId, chunk, last, durationMs, eventsCount,
+                httpRequest.getInputStream());
+
+        HttpStatus status = response.isCompleted() ? HttpStatus.CREATED : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(ApiResponse.success(response));
+    }
+
+    /**
+     * 클라이언트 IP 주소 추출 (프록시/로드밸런서 고려)
+     */
+    private String getClientIpAddress(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(forwardedFor)) {
+            return forwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bugshot.domain.replay.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세션 리플레이 업로드 응답
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReplayUploadResponse {
+
+    private String sessionId;
+
+    /**
+     * 이번에 받은 청크 번호
+     */
+    private int chunk;
+
+    /**
+     * 지금까지 받은 원본(압축 전) 바이트 수
+     */
+    private long receivedBytes;
+
+    /**
+     * 마지막 청크까지 받아 저장이 끝났는지 여부
+     */
+    private boolean completed;
+
+    /**
+     * 저장된 리플레이 ID (completed=true일 때만)
+     */
+    private String replayId;
+}
@@ -0,0 +1,249 @@
+package com.bugshot.domain.replay.service;
+
+import com.bugshot.domain.project.dto.ProjectSnapshot;
+import com.bugshot.domain.replay.dto.ReplayUploadResponse;
+import com.bugshot.global.exception.PayloadTooLargeException;
+import com.bugshot.global.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 세션 리플레이 청크 업로드 처리
+ * <p>
+ * 리플레이 이벤트를 에러 수집 요청과 분리해 별도 엔드포인트로 받습니다.
+ * 청크 본문은 메모리에 모으지 않고 받는 즉시 gzip으로 압축해 임시 파일(spool)에 이어 쓰고,
+ * 마지막 청크를 받으면 파일을 R2에 업로드한 뒤 삭제합니다.
+ * </p>
+ *
+ * <pre>
+ * - 청크 본문: events JSON 배열을 바이트 단위로 나눈 조각 (순서대로 이어 붙이면 전체 배열)
+ * - chunk=0 이면 새 업로드 시작 (같은 세션의 미완료 업로드는 폐기)
+ * - 순서가 맞지 않는 청크는 409, 누적 크기가 max-file-size를 넘으면 413
+ * - 진행 중인 업로드가 max-open-uploads에 도달하면 새 업로드는 503 + Retry-After
+ * - idle-timeout 동안 다음 청크가 없으면 스케줄러가 정리
+ * </pre>
+ *
+ * 업로드 상태는 노드 로컬이므로 여러 인스턴스로 운영할 때는 sessionId 기준 sticky 라우팅이 필요합니다.
+ */
+@Service
+@Slf4j
+public class ReplayUploadService {
+
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+
+    private final SessionReplayService sessionReplayService;
+    private final Map<String, PendingUpload> uploads = new ConcurrentHashMap<>();
+
+    private final Path spoolDir;
+    private final long maxFileSize;
+    private final int maxOpenUploads;
+    private final long idleTimeoutMillis;
+    private final long retryAfterSeconds;
+
+    public ReplayUploadService(SessionReplayService sessionReplayService,
+                               @Value("${app.session-replay.upload.spool-dir:${java.io.tmpdir}/bugshot-replay-spool}") String spoolDir,
+                               @Value("${app.session-replay.max-file-size:10485760}") long maxFileSize,
+                               @Value("${app.session-replay.upload.max-open-uploads:200}") int maxOpenUploads,
+                               @Value("${app.session-replay.upload.idle-timeout-seconds:600}") long idleTimeoutSeconds,
+                               @Value("${app.session-replay.upload.retry-after-seconds:5}") long retryAfterSeconds) throws IOException {
+        this.sessionReplayService = sessionReplayService;
+        this.spoolDir = Files.createDirectories(Path.of(spoolDir));
+        this.maxFileSize = maxFileSize;
+        this.maxOpenUploads = maxOpenUploads;
+        this.idleTimeoutMillis = Duration.ofSeconds(idleTimeoutSeconds).toMillis();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 청크 하나를 받아 spool 파일에 이어 쓰기
+     *
+     * @param project      API 키로 확인된 프로젝트
+     * @param occurrenceId 연결할 occurrence (없으면 세션의 최근 occurrence)
+     * @param chunk        0부터 시작하는 청크 번호
+     * @param last         마지막 청크 여부 (true면 저장까지 완료)
+     * @param body         청크 본문 스트림
+     */
+    public ReplayUploadResponse appendChunk(ProjectSnapshot project, String sessionId, String occurrenceId,
+                                            int chunk, boolean last, Integer durationMs, Integer eventsCount,
+                                            InputStream body) throws Exception {
+        String uploadKey = project.id() + ":" + sessionId;
+        PendingUpload upload = chunk == 0 ? start(uploadKey) : uploads.get(uploadKey);
+        if (upload == null) {
+            throw new IllegalStateException("No upload in progress for session: " + sessionId);
+        }
+
+        upload.lock.lock();
+        try {
+            if (upload.closed) {
+                throw new IllegalStateException("Upload was aborted for session: " + sessionId);
+            }
+            if (chunk != upload.nextChunk) {
+                throw new IllegalStateException(String.format(
+                        "Unexpected chunk %d for session %s (expected %d)", chunk, sessionId, upload.nextChunk));
+            }
+
+            try {
+                upload.write(body, maxFileSize);
+            } catch (PayloadTooLargeException e) {
+                abort(uploadKey, upload);
+                throw e;
+            } catch (IOException e) {
+                abort(uploadKey, upload);
+                throw e;
+            }
+            upload.nextChunk++;
+
+            if (!last) {
+                return ReplayUploadResponse.builder()
+                        .sessionId(sessionId)
+                        .chunk(chunk)
+                        .receivedBytes(upload.rawBytes)
+                        .completed(false)
+                        .build();
+            }
+
+            // 마지막 청크: 압축 스트림을 닫고 저장
+            try {
+                upload.finish();
+                String replayId = sessionReplayService.saveUploadedReplay(
+                        project.id(), sessionId, occurrenceId, upload.file, durationMs, eventsCount);
+
+                return ReplayUploadResponse.builder()
+                        .sessionId(sessionId)
+                        .chunk(chunk)
+                        .receivedBytes(upload.rawBytes)
+                        .completed(true)
+                        .replayId(replayId)
+                        .build();
+            } finally {
+                abort(uploadKey, upload);
+            }
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    /**
+     * 오래 멈춘 업로드 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void cleanupIdleUploads() {
+        long threshold = System.currentTimeMillis() - idleTimeoutMillis;
+        uploads.forEach((key, upload) -> {
+            if (upload.lastTouched < threshold) {
+                upload.lock.lock();
+                try {
+                    if (upload.lastTouched < threshold) {
+                        log.info("Discarding idle replay upload: {} ({} bytes, {} chunks)",
+                                key, upload.rawBytes, upload.nextChunk);
+                        abort(key, upload);
+                    }
+                } finally {
+                    upload.lock.unlock();
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploads.forEach(this::abort);
+    }
+
+    private PendingUpload start(String uploadKey) throws IOException {
+        PendingUpload previous = uploads.get(uploadKey);
+        if (previous != null) {
+            previous.lock.lock();
+            try {
+                abort(uploadKey, previous);
+            } finally {
+                previous.lock.unlock();
+            }
+        }
+        if (uploads.size() >= maxOpenUploads) {
+            throw new ServiceOverloadedException("Too many replay uploads in progress. Please retry later.", retryAfterSeconds);
+        }
+
+        PendingUpload upload = new PendingUpload(Files.createTempFile(spoolDir, "replay-", ".json.gz"));
+        PendingUpload raced = uploads.putIfAbsent(uploadKey, upload);
+        if (raced != null) {
+            upload.discard();
+            throw new IllegalStateException("Replay upload already started for this session");
+        }
+        return upload;
+    }
+
+    private void abort(String uploadKey, PendingUpload upload) {
+        uploads.remove(uploadKey, upload);
+        upload.discard();
+    }
+
+    /**
+     * 진행 중인 업로드 하나의 상태 (lock으로 동기화)
+     * <p>
+     * 잠금을 잡은 채 소켓 읽기와 R2 업로드/DB 저장을 하므로 synchronized 대신 ReentrantLock을 사용합니다.
+     * (synchronized 블록 안에서 블로킹하면 가상 스레드가 캐리어 스레드에 고정(pinning)됨)
+     * </p>
+     */
+    private static final class PendingUpload {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Path file;
+        private final OutputStream out;
+        private long rawBytes;
+        private int nextChunk;
+        private boolean closed;
+        private volatile long lastTouched = System.currentTimeMillis();
+
+        private PendingUpload(Path file) throws IOException {
+            this.file = file;
+            this.out = new GZIPOutputStream(Files.newOutputStream(file), COPY_BUFFER_SIZE);
+        }
+
+        private void write(InputStream body, long maxFileSize) throws IOException {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                rawBytes += read;
+                if (rawBytes > maxFileSize) {
+                    throw new PayloadTooLargeException(maxFileSize);
+                }
+                out.write(buffer, 0, read);
+            }
+            lastTouched = System.currentTimeMillis();
+        }
+
+        private void finish() throws IOException {
+            closed = true;
+            out.close();
+        }
+
+        private void discard() {
+            closed = true;
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 삭제할 파일이므로 무시
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete replay spool file: {}", file, e);
+            }
+        }
+    }
+}
@@ -3,17 +3,17 @@ package com.bugshot.domain.replay.service;
 import com.bugshot.domain.error.dto.IngestRequest;
 import com.bugshot.domain.error.entity.ErrorOccurrence;
 import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
+import com.bugshot.domain.project.repository.ProjectRepository;
 import com.bugshot.domain.replay.dto.SessionReplayResponse;
 import com.bugshot.domain.replay.entity.SessionReplay;
 import com.bugshot.domain.replay.repository.SessionReplayRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -23,9 +23,13 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.zip.GZIPOutputStream;
 
 @Service
@@ -35,61 +39,131 @@ public class SessionReplayService {
 
     private final SessionReplayRepository replayRepository;
     private final ErrorOccurrenceRepository occurrenceRepository;
+    private final ProjectRepository projectRepository;
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
-    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.cloudflare.r2.bucket-name}")
     private String bucketName;
 
-    @Async
-    @Transactional
+    /**
+     * 수집 파이프라인으로 받은 리플레이 저장
+     * <p>
+     * R2 업로드는 트랜잭션 밖에서 하고, 메타데이터만 짧은 트랜잭션으로 저장합니다.
+     * </p>
+     */
     public void saveReplay(String projectId, String occurrenceId, IngestRequest.SessionReplayData replayData) {
         try {
             log.info("Saving session replay: occurrence={}, sessionId={}",
                 occurrenceId, replayData.getSessionId());
 
-            // Convert replay data to JSON
-            String jsonData = objectMapper.writeValueAsString(replayData.getEvents());
-
-            // Compress with GZIP
-            byte[] compressedData = compressData(jsonData);
+            // Compress raw events JSON with GZIP (수집 시 원본 바이트 그대로 보관)
+            byte[] compressedData = compressData(replayData.getEvents());
 
             // Upload to Cloudflare R2 (S3 compatible)
             String s3Key = generateS3Key(projectId, replayData.getSessionId());
             String r2Url = uploadToR2(s3Key, compressedData);
 
             // Save metadata to database
-            ErrorOccurrence occurrence = occurrenceRepository.findById(occurrenceId)
-                .orElseThrow(() -> new IllegalArgumentException("Error occurrence not found: " + occurrenceId));
+            String replayId = saveMetadata(r2Url, () -> {
+                ErrorOccurrence occurrence = occurrenceRepository.findById(occurrenceId)
+                    .orElseThrow(() -> new IllegalArgumentException("Error occurrence not found: " + occurrenceId));
+
+                SessionReplay replay = SessionReplay.builder()
+                    .project(occurrence.getError().getProject())
+                    .errorOccurrence(occurrence)
+                    .sessionId(replayData.getSessionId())
+                    .replayDataUrl(r2Url)
+                    .durationMs(replayData.getDurationMs())
+                    .eventsCount(replayData.getEventsCount())
+                    .fileSizeBytes(compressedData.length)
+                    .build();
+
+                replay = replayRepository.save(replay);
+
+                // Attach replay to occurrence
+                occurrence.attachSessionReplay(replay.getId());
+                occurrenceRepository.save(occurrence);
+                return replay.getId();
+            });
+
+            log.info("Session replay saved: id={}, size={} bytes", replayId, compressedData.length);
+
+        } catch (Exception e) {
+            log.error("Failed to save session replay", e);
+        }
+    }
+
+    /**
+     * 업로드 엔드포인트로 받은 압축 리플레이 파일 저장
+     * <p>
+     * 파일을 그대로 R2에 스트리밍 업로드하고 메타데이터를 저장합니다.
+     * occurrenceId가 없으면 같은 세션의 가장 최근 occurrence에 연결합니다.
+     * 업로드 동안 DB 커넥션을 잡지 않도록 업로드는 트랜잭션 밖에서 하고,
+     * occurrence 조회와 메타데이터 저장만 짧은 트랜잭션으로 실행합니다.
+     * </p>
+     *
+     * @param compressedFile gzip으로 압축된 이벤트 배열 JSON 파일
+     * @return 저장된 리플레이 ID
+     */
+    public String saveUploadedReplay(String projectId, String sessionId, String occurrenceId,
+                                     Path compressedFile, Integer durationMs, Integer eventsCount) throws Exception {
+        long fileSize = Files.size(compressedFile);
+        String s3Key = generateS3Key(projectId, sessionId);
+        String r2Url = uploadToR2(s3Key, RequestBody.fromFile(compressedFile));
+
+        String replayId = saveMetadata(r2Url, () -> {
+            ErrorOccurrence occurrence = (occurrenceId != null
+                    ? occurrenceRepository.findByIdAndErrorProjectId(occurrenceId, projectId)
+                    : occurrenceRepository.findFirstBySessionIdAndErrorProjectIdOrderByOccurredAtDesc(sessionId, projectId))
+                    .orElse(null);
 
             SessionReplay replay = SessionReplay.builder()
-                .project(occurrence.getError().getProject())
-                .errorOccurrence(occurrence)
-                .sessionId(replayData.getSessionId())
-                .replayDataUrl(r2Url)
-                .durationMs(replayData.getDurationMs())
-                .eventsCount(replayData.getEvents() != null ? replayData.getEvents().size() : 0)
-                .fileSizeBytes(compressedData.length)
-                .build();
+                    .project(projectRepository.getReferenceById(projectId))
+                    .errorOccurrence(occurrence)
+                    .sessionId(sessionId)
+                    .replayDataUrl(r2Url)
+                    .durationMs(durationMs)
+                    .eventsCount(eventsCount)
+                    .fileSizeBytes((int) fileSize)
+                    .build();
 
             replay = replayRepository.save(replay);
 
-            // Attach replay to occurrence
-            occurrence.attachSessionReplay(replay.getId());
-            occurrenceRepository.save(occurrence);
+            if (occurrence != null) {
+                occurrence.attachSessionReplay(replay.getId());
+                occurrenceRepository.save(occurrence);
+            }
+            return replay.getId();
+        });
 
-            log.info("Session replay saved: id={}, size={} bytes", replay.getId(), compressedData.length);
+        log.info("Uploaded session replay saved: id={}, sessionId={}, occurrenceId={}, size={} bytes",
+                replayId, sessionId, occurrenceId, fileSize);
+        return replayId;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to save session replay", e);
+    /**
+     * 업로드된 파일의 메타데이터를 짧은 트랜잭션으로 저장
+     * - 저장에 실패하면 고아 파일이 남지 않도록 업로드한 파일 삭제
+     */
+    private String saveMetadata(String r2Url, Supplier<String> save) {
+        try {
+            return transactionTemplate.execute(status -> save.get());
+        } catch (RuntimeException e) {
+            try {
+                deleteFromR2(r2Url);
+            } catch (RuntimeException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
         }
     }
 
-    private byte[] compressData(String data) throws Exception {
+    private byte[] compressData(byte[] data) throws Exception {
         ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
         try (GZIPOutputStream gzipStream = new GZIPOutputStream(byteStream)) {
-            gzipStream.write(data.getBytes());
+            gzipStream.write(data != null ? data : "[]".getBytes(StandardCharsets.UTF_8));
         }
         return byteStream.toByteArray();
     }
@@ -100,6 +174,10 @@ public class SessionReplayService {
     }
 
     private String uploadToR2(String key, byte[] data) {
+        return uploadToR2(key, RequestBody.fromBytes(data));
+    }
+
+    private String uploadToR2(String key, RequestBody body) {
         try {
             PutObjectRequest putRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
@@ -107,7 +185,7 @@ public class SessionReplayService {
                 .contentType("application/gzip")
                 .build();
 
-            s3Client.putObject(putRequest, RequestBody.fromBytes(data));
+            s3Client.putObject(putRequest, body);
 
             // Return the R2 URL (S3 compatible format)
             return String.format("r2://%s/%s", bucketName, key);
@@ -31,7 +31,11 @@ public class WebhookConfigResponse {
     private long totalSent;
     private long failureCount;
 
-    public static WebhookConfigResponse from(WebhookConfig config) {
+    /**
+     * @param pendingSent     아직 DB에 반영되지 않은 발송 수 (CounterAggregator.pending)
+     * @param pendingFailures 아직 DB에 반영되지 않은 실패 수
+     */
+    public static WebhookConfigResponse from(WebhookConfig config, long pendingSent, long pendingFailures) {
         return WebhookConfigResponse.builder()
                 .id(config.getId())
                 .projectId(config.getProject().getId())
@@ -44,8 +48,8 @@ public class WebhookConfigResponse {
                 .createdAt(config.getCreatedAt())
                 .updatedAt(config.getUpdatedAt())
                 .lastTriggeredAt(config.getLastTriggeredAt())
-                .totalSent(config.getTotalSent())
-                .failureCount(config.getFailureCount())
+                .totalSent(config.getTotalSent() + pendingSent)
+                .failureCount(config.getFailureCount() + pendingFailures)
                 .build();
     }
 
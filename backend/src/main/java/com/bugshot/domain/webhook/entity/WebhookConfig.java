@@ -3,6 +3,7 @@ package com.bugshot.domain.webhook.entity;
 import com.bugshot.domain.project.entity.Project;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "webhook_configs")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -88,22 +90,6 @@ public class WebhookConfig {
         this.environmentFilters = environmentFilters;
     }
 
-    /**
-     * 웹훅 전송 성공 기록
-     */
-    public void recordSuccess() {
-        this.totalSent++;
-        this.lastTriggeredAt = LocalDateTime.now();
-    }
-
-    /**
-     * 웹훅 전송 실패 기록
-     */
-    public void recordFailure() {
-        this.failureCount++;
-        this.lastTriggeredAt = LocalDateTime.now();
-    }
-
     public enum WebhookType {
         DISCORD,
         SLACK,
@@ -6,6 +6,8 @@ import com.bugshot.domain.webhook.dto.WebhookConfigRequest;
 import com.bugshot.domain.webhook.dto.WebhookConfigResponse;
 import com.bugshot.domain.webhook.entity.WebhookConfig;
 import com.bugshot.domain.webhook.repository.WebhookConfigRepository;
+import com.bugshot.global.counter.CounterAggregator;
+import com.bugshot.global.counter.CounterType;
 import com.bugshot.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +32,7 @@ public class WebhookService {
     private final WebhookConfigRepository webhookRepository;
     private final ProjectRepository projectRepository;
     private final WebClient webClient;
+    private final CounterAggregator counterAggregator;
 
     /**
      * 프로젝트의 웹훅 목록 조회
@@ -38,7 +41,7 @@ public class WebhookService {
     public List<WebhookConfigResponse> getProjectWebhooks(String projectId) {
         List<WebhookConfig> configs = webhookRepository.findByProjectId(projectId);
         return configs.stream()
-                .map(WebhookConfigResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -66,7 +69,7 @@ public class WebhookService {
         log.info("Webhook created: id={}, projectId={}, type={}",
                 config.getId(), project.getId(), config.getType());
 
-        return WebhookConfigResponse.from(config);
+        return toResponse(config);
     }
 
     /**
@@ -88,7 +91,7 @@ public class WebhookService {
         config = webhookRepository.save(config);
         log.info("Webhook updated: id={}", id);
 
-        return WebhookConfigResponse.from(config);
+        return toResponse(config);
     }
 
     /**
@@ -178,4 +181,13 @@ public class WebhookService {
     private WebhookConfig.WebhookType convertType(WebhookConfigRequest.WebhookType type) {
         return WebhookConfig.WebhookType.valueOf(type.name());
     }
+
+    /**
+     * 응답 변환 (아직 flush되지 않은 발송/실패 수 포함)
+     */
+    private WebhookConfigResponse toResponse(WebhookConfig config) {
+        return WebhookConfigResponse.from(config,
+                counterAggregator.pending(CounterType.WEBHOOK_SENT, config.getId()),
+                counterAggregator.pending(CounterType.WEBHOOK_FAILURE, config.getId()));
+    }
 }
@@ -0,0 +1,292 @@
+package com.bugshot.global.compression;
+
+import com.bugshot.global.dto.ApiResponse;
+import com.bugshot.global.exception.PayloadTooLargeException;
+import com.bugshot.global.response.code.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 수집 API 요청 본문 압축 해제 필터
+ * <p>
+ * 스택 트레이스와 리플레이 JSON은 5~20배 압축되므로 SDK가 Content-Encoding: gzip 또는 zstd로
+ * 보낼 수 있게 합니다. 본문을 중간 byte[]로 풀지 않고, 컨트롤러/역직렬화기가 읽는 스트림을
+ * 그대로 디코딩 스트림으로 바꿔 끼웁니다.
+ * </p>
+ *
+ * <pre>
+ * - 대상: /api/ingest/** (단건, 배치, 리플레이 업로드)
+ * - 지원: gzip, x-gzip, zstd (그 외 인코딩은 415)
+ * - 압축 해제 후 누적 크기가 app.ingest.compression.max-decompressed-bytes를 넘으면 413 (zip bomb 방어)
+ * - 압축 형식이 깨진 본문은 400
+ * - 디코딩 스트림은 블로킹이므로 비동기 읽기(setReadListener)는 AsyncContext 스레드에서
+ *   블로킹으로 읽도록 에뮬레이션 (isReady()는 항상 true)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class RequestDecompressionFilter extends OncePerRequestFilter {
+
+    private static final String INGEST_PATH = "/api/ingest";
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final long maxDecompressedBytes;
+
+    public RequestDecompressionFilter(ObjectMapper objectMapper,
+                                      @Value("${app.ingest.compression.max-decompressed-bytes:16777216}") long maxDecompressedBytes) {
+        this.objectMapper = objectMapper;
+        this.maxDecompressedBytes = maxDecompressedBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        return !request.getRequestURI().startsWith(INGEST_PATH)
+                || encoding == null || encoding.isBlank() || "identity".equalsIgnoreCase(encoding.trim());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING).trim().toLowerCase(Locale.ROOT);
+
+        InputStream decoded;
+        try {
+            decoded = switch (encoding) {
+                case "gzip", "x-gzip" -> new GZIPInputStream(request.getInputStream(), BUFFER_SIZE);
+                case "zstd" -> new ZstdInputStreamNoFinalizer(request.getInputStream());
+                default -> null;
+            };
+        } catch (IOException e) {
+            log.warn("Malformed {} request body: path={}, message={}", encoding, request.getRequestURI(), e.getMessage());
+            writeError(response, ErrorCode.BAD_REQUEST, "Malformed " + encoding + " request body");
+            return;
+        }
+        if (decoded == null) {
+            writeError(response, ErrorCode.UNSUPPORTED_MEDIA_TYPE, "Unsupported Content-Encoding: " + encoding);
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(new DecompressedRequest(request, decoded, maxDecompressedBytes), response);
+            // 비동기 처리 중이면 본문을 계속 읽으므로 요청이 끝날 때 닫음
+            async = request.isAsyncStarted();
+            if (async) {
+                request.getAsyncContext().addListener(new CloseOnCompleteListener(decoded));
+            }
+        } finally {
+            if (!async) {
+                decoded.close();
+            }
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode, String message) throws IOException {
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.onFailure(errorCode, message));
+    }
+
+    /**
+     * 비동기 요청이 끝나면 압축 해제 스트림을 닫는 리스너
+     */
+    private record CloseOnCompleteListener(InputStream body) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            body.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * 압축 해제 스트림을 본문으로 노출하는 요청 래퍼
+     * <p>
+     * 압축 해제 후 길이는 알 수 없으므로 Content-Length/Content-Encoding 헤더는 숨깁니다.
+     * </p>
+     */
+    private static final class DecompressedRequest extends HttpServletRequestWrapper {
+
+        private final LimitedServletInputStream inputStream;
+
+        private DecompressedRequest(HttpServletRequest request, InputStream decoded, long maxBytes) {
+            super(request);
+            this.inputStream = new LimitedServletInputStream(request, decoded, maxBytes);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(inputStream, charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1L;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHiddenHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHiddenHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        private boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    /**
+     * 압축 해제된 바이트 수를 세다가 한도를 넘으면 PayloadTooLargeException (→ 413)
+     */
+    private static final class LimitedServletInputStream extends ServletInputStream {
+
+        private final HttpServletRequest request;
+        private final InputStream delegate;
+        private final long maxBytes;
+        private long readBytes;
+        private volatile boolean finished;
+        private ReadListener readListener;
+
+        private LimitedServletInputStream(HttpServletRequest request, InputStream delegate, long maxBytes) {
+            this.request = request;
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value == -1) {
+                finished = true;
+            } else {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read == -1) {
+                finished = true;
+            } else {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int bytes) {
+            readBytes += bytes;
+            if (readBytes > maxBytes) {
+                throw new PayloadTooLargeException(maxBytes);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * 비동기 읽기 등록
+         * <p>
+         * 원본 스트림의 준비 상태는 압축 해제 스트림의 준비 상태와 다르므로 원본에 위임하지 않습니다.
+         * 대신 AsyncContext 스레드에서 onDataAvailable()을 한 번 호출하고(isReady()가 항상 true이므로
+         * 리스너는 끝까지 블로킹으로 읽음), 본문을 다 읽었으면 onAllDataRead()를 호출합니다.
+         * 서블릿 명세대로 비동기 모드가 아니거나 두 번 등록하면 IllegalStateException입니다.
+         * </p>
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (readListener == null) {
+                throw new NullPointerException("readListener");
+            }
+            if (!request.isAsyncStarted()) {
+                throw new IllegalStateException("setReadListener requires an async request");
+            }
+            if (this.readListener != null) {
+                throw new IllegalStateException("ReadListener already set");
+            }
+            this.readListener = readListener;
+
+            request.getAsyncContext().start(() -> {
+                try {
+                    readListener.onDataAvailable();
+                    if (finished) {
+                        readListener.onAllDataRead();
+                    }
+                } catch (Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
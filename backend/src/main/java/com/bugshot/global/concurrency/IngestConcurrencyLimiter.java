@@ -0,0 +1,165 @@
+package com.bugshot.global.concurrency;
+
+import com.bugshot.global.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 수집 동시 실행 수 적응형 제한 (gradient 방식)
+ * <p>
+ * MySQL이 느려지면 수집 요청이 Tomcat 스레드와 Hikari 커넥션을 모두 점유해 대시보드까지 멈춥니다.
+ * 동시에 처리 중인 수집 요청 수를 관측된 지연 시간에 맞춰 조절하고, 한도를 넘는 요청은
+ * DB에 닿기 전에 503 + Retry-After로 거절합니다.
+ * </p>
+ *
+ * <pre>
+ * - 지연 시간의 장기 평균(기준선)과 단기 평균을 비교 → gradient = 기준선 × tolerance / 단기 (0.5 ~ 1.0)
+ * - newLimit = limit × gradient + √limit (지연이 기준선 수준이면 조금씩 증가, 늘어나면 감소)
+ * - DB 오류/커넥션 획득 실패는 limit을 backoff-ratio만큼 즉시 감소
+ * - 상한: Hikari 풀 크기 - reserved-connections (대시보드 조회용 커넥션을 항상 남겨둠)
+ * - 메트릭: bugshot.ingest.concurrency.limit / .inflight / .shed / .latency
+ * </pre>
+ */
+@Component
+@Slf4j
+public class IngestConcurrencyLimiter {
+
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long retryAfterSeconds;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile double limit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    private final Counter shedCounter;
+    private final Timer latencyTimer;
+
+    public IngestConcurrencyLimiter(MeterRegistry meterRegistry,
+                                    @Value("${app.ingest.concurrency.enabled:true}") boolean enabled,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                    @Value("${app.ingest.concurrency.reserved-connections:3}") int reservedConnections,
+                                    @Value("${app.ingest.concurrency.min-limit:1}") int minLimit,
+                                    @Value("${app.ingest.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                    @Value("${app.ingest.concurrency.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, poolSize - reservedConnections);
+        this.backoffRatio = backoffRatio;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limit = maxLimit;
+
+        Gauge.builder("bugshot.ingest.concurrency.limit", this, limiter -> Math.floor(limiter.limit))
+                .description("Current adaptive limit of concurrent ingest requests")
+                .register(meterRegistry);
+        Gauge.builder("bugshot.ingest.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Ingest requests currently being processed")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("bugshot.ingest.shed")
+                .description("Ingest requests rejected with 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("bugshot.ingest.concurrency.latency")
+                .description("Latency of ingest requests admitted by the limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도 안에서 수집 작업 실행
+     *
+     * @throws ServiceOverloadedException 동시 실행 수가 한도에 도달한 경우
+     */
+    public <T> T execute(Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        int current = inflight.incrementAndGet();
+        if (current > (int) limit) {
+            inflight.decrementAndGet();
+            shedCounter.increment();
+            throw new ServiceOverloadedException("Ingest is overloaded. Please retry later.", retryAfterSeconds);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            onSample(System.nanoTime() - start, current);
+            return result;
+        } catch (DataAccessException | TransactionException e) {
+            // DB 오류/커넥션 타임아웃은 과부하 신호
+            onDropped();
+            throw e;
+        } finally {
+            inflight.decrementAndGet();
+        }
+    }
+
+    private void onSample(long rttNanos, int inflightAtStart) {
+        latencyTimer.record(rttNanos, TimeUnit.NANOSECONDS);
+
+        updateLock.lock();
+        try {
+            if (longRttNanos == 0) {
+                longRttNanos = rttNanos;
+                shortRttNanos = rttNanos;
+                return;
+            }
+            shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_ALPHA;
+            longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_ALPHA;
+
+            // 부하가 한도의 절반도 안 되면 한도를 늘릴 근거가 없음
+            if (inflightAtStart < limit / 2) {
+                return;
+            }
+
+            // 장애 회복 후 기준선이 높게 남아 있으면 빠르게 끌어내림
+            if (longRttNanos / shortRttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            setLimit(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void onDropped() {
+        updateLock.lock();
+        try {
+            setLimit(limit * backoffRatio);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void setLimit(double newLimit) {
+        double clamped = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) clamped != (int) limit) {
+            log.debug("Ingest concurrency limit changed: {} -> {}", (int) limit, (int) clamped);
+        }
+        limit = clamped;
+    }
+}
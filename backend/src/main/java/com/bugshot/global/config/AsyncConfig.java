@@ -1,23 +1,129 @@
 package com.bugshot.global.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 및 스케줄링 설정
  *
  * @EnableAsync: @Async 어노테이션 활성화
- * - Discord/Slack 웹훅 전송 등 시간이 걸리는 작업을 비동기로 처리
+ * - 수집 후속 작업(세션 리플레이 저장, 알림 전송)을 비동기로 처리
  * - API 응답 시간에 영향을 주지 않도록 함
+ * - 우선순위 계산은 PostIngestPipeline이 릴레이 스레드에서 배치 단위로 실행
  *
  * @EnableScheduling: @Scheduled 어노테이션 활성화
  * - 대시보드 통계 캐시 갱신 등 주기적인 작업 처리
  *
- * 필요시 ThreadPoolTaskExecutor를 커스터마이징할 수 있습니다.
+ * <pre>
+ * 작업 종류별로 크기가 제한된 전용 executor를 사용합니다.
+ * (느린 R2 업로드가 알림 전송 스레드를 모두 점유하는 일이 없도록 분리)
+ *
+ * - replayExecutor:       큐가 가득 차면 거부 (파이프라인이 단계를 미완료로 기록 → 아웃박스 릴레이가 백오프 후 재시도)
+ * - notificationExecutor: 큐가 가득 차면 거부 (위와 같음, 릴레이 스레드에서 대신 실행하지 않으므로 릴레이가 막히지 않음)
+ *   Discard는 버린 작업의 future를 완료하지 않아 릴레이가 기한까지 기다리게 되므로 파이프라인 executor에는 쓰지 않음
+ * - recalculationExecutor: 우선순위 일괄 재계산 (프로젝트 단위 작업), 큐가 가득 차면 거부 (작업 재개 시 재시도)
+ *
+ * - 크기/큐 용량: app.async.{replay|notification|recalculation}.*
+ * - 종료 시 큐에 남은 작업을 await-termination-seconds 동안 처리한 뒤 종료
+ * - 메트릭: bugshot.async.active / .pool.size / .queue.depth / .rejected (tag: executor)
+ *
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 함께 이 executor들도
+ * 가상 스레드로 작업을 실행합니다. 큐 용량/최대 동시 실행 수/거부 정책은 그대로 유지되므로
+ * 작업 종류별 격리는 동일하게 적용되고, 웹훅 전송의 block() 대기는 캐리어 스레드를 점유하지 않습니다.
+ * </pre>
  */
 @Configuration
 @EnableAsync
 @EnableScheduling
+@RequiredArgsConstructor
+@Slf4j
 public class AsyncConfig {
+
+    public static final String REPLAY_EXECUTOR = "replayExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String RECALCULATION_EXECUTOR = "recalculationExecutor";
+
+    private static final String PROPERTY_PREFIX = "app.async.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = REPLAY_EXECUTOR)
+    public ThreadPoolTaskExecutor replayExecutor() {
+        return boundedExecutor("replay", 2, 4, 100, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return boundedExecutor("notification", 2, 8, 500, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = RECALCULATION_EXECUTOR)
+    public ThreadPoolTaskExecutor recalculationExecutor() {
+        return boundedExecutor("recalculation", 2, 2, 1000, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private boolean virtualThreads() {
+        return environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, int defaultCoreSize, int defaultMaxSize,
+                                                   int defaultQueueCapacity, RejectedExecutionHandler policy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        if (virtualThreads()) {
+            executor.setThreadFactory(Thread.ofVirtual().name("async-" + name + "-", 0).factory());
+        } else {
+            executor.setThreadNamePrefix("async-" + name + "-");
+        }
+        executor.setCorePoolSize(property(name, "core-size", defaultCoreSize));
+        executor.setMaxPoolSize(property(name, "max-size", defaultMaxSize));
+        executor.setQueueCapacity(property(name, "queue-capacity", defaultQueueCapacity));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(
+                environment.getProperty(PROPERTY_PREFIX + "await-termination-seconds", Integer.class, 20));
+
+        Tags tags = Tags.of("executor", name);
+        Counter rejected = Counter.builder("bugshot.async.rejected")
+                .description("Tasks rejected because the executor queue was full")
+                .tags(tags)
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("Async executor saturated, applying {}: executor={}, queued={}",
+                    policy.getClass().getSimpleName(), name, pool.getQueue().size());
+            policy.rejectedExecution(task, pool);
+        });
+
+        Gauge.builder("bugshot.async.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads currently running tasks")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("bugshot.async.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads currently in the pool")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("bugshot.async.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Tasks waiting for a free thread")
+                .tags(tags)
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    private int property(String executorName, String key, int defaultValue) {
+        return environment.getProperty(PROPERTY_PREFIX + executorName + "." + key, Integer.class, defaultValue);
+    }
 }
@@ -35,6 +35,33 @@ public class DataInitializer implements ApplicationRunner {
             log.debug("No projects needed session_replay_enabled update");
         }
 
+        backfillRecencyBoost();
+
         log.info("Data initialization completed");
     }
+
+    /**
+     * 점수가 계산된 기존 에러 그룹의 recency_boost / critical_page 채우기 (PriorityDecayJob 대상이 되도록)
+     * <p>
+     * 점수는 마지막으로 계산될 때 행을 갱신하므로, 적용된 부스트는 그 시각(updated_at)의 마지막 발생 후 경과 시간으로
+     * Error.calculateRecencyBoost와 같은 구간에서 구합니다. (상태 변경 등으로 updated_at이 더 늦으면 부스트를 낮게 보므로
+     * 감쇠가 덜 될 뿐 점수가 실제보다 낮아지지는 않음) updated_at이 없는 그룹은 NULL로 두고 다음 재계산에 맡깁니다.
+     * 결제 페이지 여부는 URL이 저장되지 않으므로 점수만으로는 나올 수 없는 심각도(20 이하 HIGH, 50 이하 CRITICAL)로 추정합니다.
+     * </p>
+     */
+    private void backfillRecencyBoost() {
+        int updated = jdbcTemplate.update(
+                "UPDATE errors SET " +
+                "critical_page = (severity = 'HIGH' AND priority_score <= 20) OR (severity = 'CRITICAL' AND priority_score <= 50), " +
+                "recency_boost = CASE " +
+                "  WHEN TIMESTAMPDIFF(HOUR, last_seen_at, updated_at) < 1 THEN 2.0 " +
+                "  WHEN TIMESTAMPDIFF(HOUR, last_seen_at, updated_at) < 6 THEN 1.5 " +
+                "  WHEN TIMESTAMPDIFF(HOUR, last_seen_at, updated_at) < 24 THEN 1.2 " +
+                "  ELSE 1.0 END " +
+                "WHERE recency_boost IS NULL AND priority_score > 0 AND updated_at IS NOT NULL"
+        );
+        if (updated > 0) {
+            log.info("Backfilled recency_boost for {} error groups", updated);
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package com.bugshot.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * 에러 그룹 유니크 키 마이그레이션 - 수집 트래픽을 받기 전에 실행
+ * <p>
+ * ApplicationRunner(DataInitializer)는 Tomcat과 아웃박스 릴레이가 뜬 뒤에 실행되므로,
+ * 중복 그룹을 병합하는 동안 들어온 수집이 다시 중복 그룹을 만들어 ADD UNIQUE가 실패할 수 있습니다.
+ * 컨텍스트 초기화 중(웹 서버 시작 전)에 실행하고, 백그라운드로 에러 그룹을 다루는
+ * IngestOutboxRelay / IngestBuffer는 @DependsOn으로 이 빈 이후에 생성됩니다.
+ * ddl-auto로 error_fingerprint 컬럼이 만들어진 뒤 실행되도록 entityManagerFactory 이후에 생성합니다.
+ * </p>
+ */
+@Component(ErrorGroupKeyMigration.BEAN_NAME)
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class ErrorGroupKeyMigration implements InitializingBean {
+
+    public static final String BEAN_NAME = "errorGroupKeyMigration";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ErrorGroupKeyMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * errors (project_id, error_fingerprint) 유니크 키 보장
+     * <p>
+     * 에러 그룹 upsert(INSERT ... ON DUPLICATE KEY UPDATE)는 이 유니크 키에 의존합니다.
+     * 기존 행은 64자 hex error_hash만 가지고 있으므로 앞 16바이트(UNHEX(LEFT(error_hash, 32)))로
+     * error_fingerprint를 채우고, 이전의 조회 후 저장 방식에서 동시 요청으로 생긴 중복 그룹이 있으면
+     * 하나로 병합한 뒤 키를 추가합니다. 이전 키(uk_error_project_hash)는 제거하고 error_hash는 NULL 허용으로 바꿉니다.
+     * 임시 테이블을 사용하므로 하나의 커넥션에서 순서대로 실행합니다.
+     * </p>
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (indexExists("uk_error_project_fingerprint")) {
+            return;
+        }
+
+        log.info("Migrating error groups to uk_error_project_fingerprint...");
+        boolean hasLegacyKey = indexExists("uk_error_project_hash");
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                int backfilled = statement.executeUpdate(
+                        "UPDATE errors SET error_fingerprint = UNHEX(LEFT(error_hash, 32)) " +
+                        "WHERE error_fingerprint IS NULL AND error_hash IS NOT NULL"
+                );
+
+                // 같은 (project_id, error_fingerprint) 중 가장 작은 id를 남길 그룹으로 선택
+                statement.execute(
+                        "CREATE TEMPORARY TABLE error_group_merge AS " +
+                        "SELECT e.id AS duplicate_id, k.keep_id FROM errors e " +
+                        "JOIN (SELECT project_id, error_fingerprint, MIN(id) AS keep_id FROM errors " +
+                        "      GROUP BY project_id, error_fingerprint HAVING COUNT(*) > 1) k " +
+                        "ON e.project_id = k.project_id AND e.error_fingerprint = k.error_fingerprint AND e.id <> k.keep_id"
+                );
+                int moved = statement.executeUpdate(
+                        "UPDATE error_occurrences o JOIN error_group_merge m ON o.error_id = m.duplicate_id " +
+                        "SET o.error_id = m.keep_id"
+                );
+                statement.executeUpdate(
+                        "UPDATE errors e JOIN (" +
+                        "  SELECT m.keep_id, SUM(d.occurrence_count) AS occurrences, " +
+                        "         MIN(d.first_seen_at) AS first_seen, MAX(d.last_seen_at) AS last_seen " +
+                        "  FROM error_group_merge m JOIN errors d ON d.id = m.duplicate_id GROUP BY m.keep_id" +
+                        ") agg ON e.id = agg.keep_id " +
+                        "SET e.occurrence_count = e.occurrence_count + agg.occurrences, " +
+                        "    e.first_seen_at = LEAST(e.first_seen_at, agg.first_seen), " +
+                        "    e.last_seen_at = GREATEST(e.last_seen_at, agg.last_seen)"
+                );
+                int merged = statement.executeUpdate(
+                        "DELETE e FROM errors e JOIN error_group_merge m ON e.id = m.duplicate_id"
+                );
+                statement.execute("DROP TEMPORARY TABLE error_group_merge");
+
+                if (hasLegacyKey) {
+                    statement.execute("ALTER TABLE errors DROP INDEX uk_error_project_hash");
+                }
+                statement.execute("ALTER TABLE errors MODIFY error_hash VARCHAR(64) NULL");
+                statement.execute(
+                        "ALTER TABLE errors ADD UNIQUE INDEX uk_error_project_fingerprint (project_id, error_fingerprint)"
+                );
+
+                log.info("Added uk_error_project_fingerprint: backfilled {} rows, merged {} duplicate groups, moved {} occurrences",
+                        backfilled, merged, moved);
+            }
+            return null;
+        });
+    }
+
+    private boolean indexExists(String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'errors' AND index_name = ?",
+                Integer.class,
+                indexName
+        );
+        return count != null && count > 0;
+    }
+}
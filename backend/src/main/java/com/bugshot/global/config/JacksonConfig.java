@@ -1,9 +1,12 @@
 package com.bugshot.global.config;
 
+import com.bugshot.domain.error.dto.IngestRequestDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -18,6 +21,9 @@ import java.time.format.DateTimeFormatter;
  * 예: "2025-12-07T13:18:28" → "2025-12-07T13:18:28Z"
  *
  * 이렇게 하면 프론트엔드에서 JavaScript Date가 UTC로 정확히 해석합니다.
+ *
+ * 수집 요청 역직렬화기(IngestRequestDeserializer)가 리플레이 이벤트 복사 한도로 쓰도록
+ * app.session-replay.max-file-size를 공유 속성으로 넘깁니다.
  */
 @Configuration
 public class JacksonConfig {
@@ -27,7 +33,7 @@ public class JacksonConfig {
 
     @Bean
     @Primary
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(@Value("${app.session-replay.max-file-size:10485760}") long maxReplayBytes) {
         ObjectMapper mapper = new ObjectMapper();
 
         JavaTimeModule javaTimeModule = new JavaTimeModule();
@@ -41,6 +47,9 @@ public class JacksonConfig {
         // ISO-8601 형식으로 날짜 직렬화 (timestamp 숫자 대신)
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
+        mapper.setDefaultAttributes(ContextAttributes.getEmpty()
+                .withSharedAttribute(IngestRequestDeserializer.MAX_REPLAY_BYTES_ATTRIBUTE, maxReplayBytes));
+
         return mapper;
     }
 }
@@ -75,6 +75,12 @@ public class SecurityConfig {
         ingestConfig.setAllowedOriginPatterns(List.of("*"));
         ingestConfig.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
         ingestConfig.setAllowedHeaders(List.of("*"));
+        ingestConfig.setExposedHeaders(List.of(
+            "X-RateLimit-Limit",
+            "X-RateLimit-Remaining",
+            "X-RateLimit-Reset",
+            "Retry-After"
+        ));
         ingestConfig.setAllowCredentials(false); // allowedOriginPatterns("*") 사용시 false 필요
         ingestConfig.setMaxAge(3600L);
         source.registerCorsConfiguration("/api/ingest/**", ingestConfig);
@@ -0,0 +1,149 @@
+package com.bugshot.global.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비정규화 카운터 집계기
+ * <p>
+ * 수집/알림마다 같은 projects, webhook_configs 행을 한 건씩 UPDATE 하면
+ * 바쁜 프로젝트에서 행 잠금 경합(row-lock convoy)이 생깁니다.
+ * 증가분을 엔티티 ID별 LongAdder(스트라이프 카운터)에 모아두고,
+ * 짧은 주기로 "SET x = x + ?" 배치 UPDATE 한 번으로 반영합니다.
+ * </p>
+ *
+ * <pre>
+ * - 트랜잭션 안에서 호출하면 커밋 후에만 누적 (롤백된 수집은 집계되지 않음)
+ * - 증가분은 UPDATE가 성공한 뒤에 차감 (반영 실패 시 그대로 남아 다음 주기에 재시도)
+ * - 종료 시 마지막으로 한 번 더 반영
+ * - DB 값은 최대 flush 주기(app.counters.flush-interval-ms)만큼 늦으므로
+ *   응답에 실을 때는 pending()으로 아직 반영되지 않은 증가분을 더함
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CounterAggregator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<CounterKey, PendingCounter> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 카운터 1 증가
+     */
+    public void increment(CounterType type, String entityId) {
+        add(type, entityId, 1);
+    }
+
+    /**
+     * 카운터를 delta만큼 증가 (현재 트랜잭션이 있으면 커밋 후 반영)
+     */
+    public void add(CounterType type, String entityId, long delta) {
+        long now = System.currentTimeMillis();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(type, entityId, delta, now);
+                }
+            });
+        } else {
+            accumulate(type, entityId, delta, now);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 (커밋된 것만, 반영 중인 증가분 포함)
+     */
+    public long pending(CounterType type, String entityId) {
+        PendingCounter counter = pending.get(new CounterKey(type, entityId));
+        return counter != null ? counter.delta.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<CounterType, List<Object[]>> batches = new EnumMap<>(CounterType.class);
+
+            pending.forEach((key, counter) -> {
+                // 반영 중에도 pending()에 보이도록 여기서는 읽기만 하고 성공 후 차감
+                long delta = counter.delta.sum();
+                if (delta == 0) {
+                    return;
+                }
+                long at = counter.lastAt.getThenReset();
+                Timestamp lastAt = toTimestamp(at > 0 ? at : System.currentTimeMillis());
+                batches.computeIfAbsent(key.type(), t -> new ArrayList<>())
+                        .add(new Object[]{delta, lastAt, lastAt, key.entityId()});
+            });
+
+            batches.forEach(this::applyBatch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Flushing pending counters before shutdown");
+        flush();
+    }
+
+    private void applyBatch(CounterType type, List<Object[]> rows) {
+        try {
+            jdbcTemplate.batchUpdate(type.getUpdateSql(), rows);
+            log.debug("Flushed {} {} counters", rows.size(), type);
+            // 반영된 증가분 차감
+            for (Object[] row : rows) {
+                accumulate(type, (String) row[3], -(Long) row[0], 0L);
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush {} counters, will retry: rows={}", type, rows.size(), e);
+            // 반영 실패 시 증가분은 남아 있으므로 마지막 시각만 복구
+            for (Object[] row : rows) {
+                Timestamp lastAt = (Timestamp) row[1];
+                accumulate(type, (String) row[3], 0L, lastAt.getTime());
+            }
+        }
+    }
+
+    private void accumulate(CounterType type, String entityId, long delta, long at) {
+        PendingCounter counter = pending.computeIfAbsent(new CounterKey(type, entityId), k -> new PendingCounter());
+        counter.lastAt.accumulate(at);
+        counter.delta.add(delta);
+    }
+
+    private Timestamp toTimestamp(long epochMillis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+
+    private record CounterKey(CounterType type, String entityId) {
+    }
+
+    private static class PendingCounter {
+        private final LongAdder delta = new LongAdder();
+        private final LongAccumulator lastAt = new LongAccumulator(Math::max, 0L);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bugshot.global.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 집계 대상 비정규화 카운터 목록
+ * <p>
+ * 각 타입은 누적된 증가분을 반영하는 UPDATE 문을 가집니다.
+ * 파라미터 순서: (delta, lastAt, lastAt, entityId)
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+
+    PROJECT_TOTAL_ERRORS(
+            "UPDATE projects SET total_errors = COALESCE(total_errors, 0) + ?, " +
+            "last_error_at = GREATEST(COALESCE(last_error_at, ?), ?) WHERE id = ?"
+    ),
+
+    NOTIFICATION_CHANNEL_SENT(
+            "UPDATE notification_channels SET total_notifications_sent = COALESCE(total_notifications_sent, 0) + ?, " +
+            "last_notified_at = GREATEST(COALESCE(last_notified_at, ?), ?) WHERE id = ?"
+    ),
+
+    WEBHOOK_SENT(
+            "UPDATE webhook_configs SET total_sent = total_sent + ?, " +
+            "last_triggered_at = GREATEST(COALESCE(last_triggered_at, ?), ?) WHERE id = ?"
+    ),
+
+    WEBHOOK_FAILURE(
+            "UPDATE webhook_configs SET failure_count = failure_count + ?, " +
+            "last_triggered_at = GREATEST(COALESCE(last_triggered_at, ?), ?) WHERE id = ?"
+    );
+
+    private final String updateSql;
+}
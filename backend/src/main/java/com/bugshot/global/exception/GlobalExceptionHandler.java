@@ -6,7 +6,9 @@ import com.bugshot.global.response.code.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -230,6 +232,69 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.onFailure(ErrorCode.NOT_FOUND, e.getMessage()));
     }
 
+    /**
+     * 요청 본문 크기 초과
+     */
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePayloadTooLargeException(
+            PayloadTooLargeException e,
+            HttpServletRequest request) {
+
+        String path = request.getRequestURI();
+        String traceId = request.getHeader("X-Trace-ID");
+
+        log.warn("[Payload Too Large] path: {}, traceId: {}, message: {}", path, traceId, e.getMessage());
+
+        return ResponseEntity
+                .status(ErrorCode.PAYLOAD_TOO_LARGE.getStatus())
+                .body(ApiResponse.onFailure(ErrorCode.PAYLOAD_TOO_LARGE, e.getMessage()));
+    }
+
+    /**
+     * 요청 본문을 읽을 수 없음
+     * <p>
+     * 압축 해제 스트림의 크기 초과(PayloadTooLargeException)는 본문 변환 중에 발생하므로 Jackson이 감싸서
+     * (배치 List 역직렬화 등) 이 예외로 올라옵니다. 원인을 따라가 찾으면 413으로 응답합니다.
+     * </p>
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleHttpMessageNotReadable(
+            HttpMessageNotReadableException e,
+            HttpServletRequest request) {
+
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof PayloadTooLargeException payloadTooLarge) {
+                return handlePayloadTooLargeException(payloadTooLarge, request);
+            }
+        }
+
+        String path = request.getRequestURI();
+        String traceId = request.getHeader("X-Trace-ID");
+
+        log.warn("[Message Not Readable] path: {}, traceId: {}, message: {}", path, traceId, e.getMessage());
+
+        return ResponseEntity
+                .status(ErrorCode.BAD_REQUEST.getStatus())
+                .body(ApiResponse.onFailure(ErrorCode.BAD_REQUEST, "요청 본문을 읽을 수 없습니다"));
+    }
+
+    /**
+     * 과부하로 요청 거부 (load shedding)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloadedException(
+            ServiceOverloadedException e,
+            HttpServletRequest request) {
+
+        // 과부하 중에는 요청마다 warn 로그를 남기지 않음 (메트릭으로 집계)
+        log.debug("[Service Overloaded] path: {}, message: {}", request.getRequestURI(), e.getMessage());
+
+        return ResponseEntity
+                .status(ErrorCode.SERVICE_UNAVAILABLE.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.onFailure(ErrorCode.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
     /**
      * 비즈니스 로직 예외
      */
@@ -0,0 +1,20 @@
+package com.bugshot.global.exception;
+
+/**
+ * 존재하지 않는 API 키로 수집 요청이 들어왔을 때 발생하는 예외
+ * <p>
+ * 키 스캐닝 공격처럼 잘못된 키가 대량으로 들어오는 상황을 고려해
+ * 스택 트레이스를 만들지 않습니다. IllegalArgumentException을 상속하므로 기존과 동일하게 400으로 응답합니다.
+ * </p>
+ */
+public class InvalidApiKeyException extends IllegalArgumentException {
+
+    public InvalidApiKeyException() {
+        super("Invalid API key");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
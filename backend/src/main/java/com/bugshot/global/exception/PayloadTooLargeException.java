@@ -0,0 +1,14 @@
+package com.bugshot.global.exception;
+
+/**
+ * 요청 본문이 허용 크기를 초과했을 때 발생하는 예외 (413)
+ */
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+
+    public PayloadTooLargeException(long maxBytes) {
+        super(String.format("Payload exceeds limit of %d bytes", maxBytes));
+    }
+}
@@ -0,0 +1,26 @@
+package com.bugshot.global.exception;
+
+/**
+ * 처리 한도를 넘어 요청을 받지 않을 때 발생하는 예외 (503 + Retry-After)
+ * <p>
+ * 과부하 상황에서 대량으로 발생하므로 스택 트레이스를 만들지 않습니다.
+ * </p>
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
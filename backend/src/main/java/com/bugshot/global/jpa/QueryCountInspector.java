@@ -0,0 +1,57 @@
+package com.bugshot.global.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 SQL 실행 횟수 측정
+ * <p>
+ * hibernate.session_factory.statement_inspector로 등록되어 Hibernate가 준비하는 모든 SQL(JPQL, native, flush)을 셉니다.
+ * 측정하려는 구간을 {@link #start()} / {@link #stop()}으로 감싸면 그 스레드에서 실행된 쿼리 수를 돌려줍니다.
+ * </p>
+ *
+ * <pre>
+ * - 측정 중이 아닌 스레드에서는 아무것도 하지 않음 (ThreadLocal 조회 한 번)
+ * - JDBC 배치로 묶인 같은 SQL은 한 번만 준비되므로 1로 셈 (DB 왕복 수에 가까움)
+ * - JdbcTemplate으로 직접 실행한 SQL은 포함되지 않음 - 실행한 쪽에서 {@link #record(int)}로 더함
+ * </pre>
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 측정 종료
+     *
+     * @return start() 이후 이 스레드에서 준비된 SQL 수 (측정 중이 아니었으면 0)
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+
+    /**
+     * Hibernate를 거치지 않은 SQL 실행 횟수 추가 (측정 중이 아니면 무시)
+     *
+     * @param statements 실행한 SQL 수 (JDBC 배치는 1)
+     */
+    public static void record(int statements) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0] += statements;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
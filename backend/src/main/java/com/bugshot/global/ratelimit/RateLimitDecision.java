@@ -0,0 +1,45 @@
+package com.bugshot.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Rate Limit 판정 결과
+ * <p>
+ * 여러 한도를 한 번에 확인한 경우 허용이면 남은 요청 수가 가장 적은 한도,
+ * 거부면 가장 오래 기다려야 하는 한도 기준입니다.
+ * </p>
+ *
+ * @param allowed          요청 허용 여부
+ * @param limit            기준 한도의 기간 내 허용 요청 수 (판정하지 못했으면 0)
+ * @param remaining        이번 요청 이후 바로 보낼 수 있는 요청 수
+ * @param resetAfterMillis 한도가 가득 찰 때까지 남은 시간
+ * @param retryAfterMillis 거부된 경우 다시 시도할 수 있을 때까지 남은 시간 (허용이면 0)
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetAfterMillis,
+                                long retryAfterMillis) {
+
+    /**
+     * Redis 오류 시 판정 (fail-open, 헤더 없음)
+     */
+    public static final RateLimitDecision FAIL_OPEN = new RateLimitDecision(true, 0, 0, 0, 0);
+
+    /**
+     * X-RateLimit-Limit / -Remaining / -Reset (초), 거부 시 Retry-After (초) 헤더 설정
+     */
+    public void applyTo(HttpServletResponse response) {
+        if (limit <= 0) {
+            return;
+        }
+        response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(resetAfterMillis)));
+        if (!allowed) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, toSeconds(retryAfterMillis))));
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -2,29 +2,38 @@ package com.bugshot.global.ratelimit;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Redis 기반 Rate Limiting 서비스
  * <p>
- * Sliding Window Counter 알고리즘을 사용하여 분산 환경에서도
- * 정확한 요청 제한을 적용합니다.
+ * GCRA(Generic Cell Rate Algorithm)를 Lua 스크립트(redis/gcra_rate_limit.lua) 하나로 실행합니다.
+ * 요청 하나에 걸린 모든 한도(API 키, IP)를 EVALSHA 한 번으로 확인하고 갱신합니다.
  * </p>
  *
  * <pre>
- * 이전 구현 (ConcurrentHashMap):
- * - 단일 서버에서만 동작
- * - 서버 재시작 시 초기화
- * - 서버 2대 운영 시 제한이 2배로 적용
+ * 이전 구현 (INCR + EXPIRE 고정 윈도우):
+ * - 한도마다 INCR, 첫 요청이면 EXPIRE → 수집 요청당 Redis 왕복 최대 4회
+ * - 윈도우 경계에서 최대 2배까지 허용
+ * - IP 한도로 거부돼도 API 키 한도는 소모됨
  *
- * 현재 구현 (Redis):
- * - 분산 환경에서 동작
- * - 서버 재시작해도 상태 유지
- * - 모든 서버가 동일한 제한 공유
+ * 현재 구현 (GCRA):
+ * - 키마다 이론적 도착 시각(TAT) 하나만 저장, 한도 / 기간 간격으로 한 칸씩 회복 (경계 없이 매끄럽게 제한)
+ * - 기간 내 한도만큼은 한 번에 보낼 수 있음 (버스트 = 한도)
+ * - 여러 한도를 원자적으로 확인 - 하나라도 거부되면 어떤 한도도 소모하지 않음
+ * - 한도마다 소모량(cost) 지정 가능 - cost가 한도보다 크면 항상 거부
+ * - 남은 요청 수 / 회복 시각을 함께 반환 → X-RateLimit-* / Retry-After 헤더
+ * - 시각은 Redis TIME 기준 (노드 간 시계 차이 무관)
+ * - Redis 오류 시 요청 허용 (fail-open)
+ * - 한 번에 확인하는 키들은 같은 Redis 노드에 있어야 함 (단일 인스턴스 기준)
  * </pre>
  */
 @Service
@@ -32,116 +41,103 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RateLimitService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GCRA_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/gcra_rate_limit.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
 
     private static final String RATE_LIMIT_PREFIX = "ratelimit:";
-    private static final int API_KEY_LIMIT = 100;        // 분당 100회
-    private static final int IP_LIMIT = 20;              // 분당 20회
+    private static final int API_KEY_LIMIT = 100;        // 분당 이벤트 100개
+    private static final int IP_LIMIT = 20;              // 분당 이벤트 20개
+    private static final int REPLAY_API_KEY_LIMIT = 60;  // 리플레이 업로드: 분당 60회 (청크 포함)
+    private static final int REPLAY_IP_LIMIT = 30;       // 리플레이 업로드: IP당 분당 30회
     private static final Duration WINDOW_DURATION = Duration.ofMinutes(1);
 
     /**
-     * API 키별 Rate Limit 확인
-     * - 분당 100회 요청 제한
+     * 에러 수집 Rate Limit 확인
+     * - API 키별 분당 이벤트 100개, IP별 분당 이벤트 20개
+     * - 배치는 API 키마다 그 키의 이벤트 수, IP는 배치 전체 이벤트 수만큼 소모
+     *   (한도보다 큰 배치는 항상 거부되므로 SDK가 나눠서 전송)
      *
-     * @param apiKey API 키
-     * @return 요청 허용 여부
+     * @param eventsByApiKey 요청에 포함된 API 키 → 이벤트 수
+     * @param ipAddress      IP 주소
+     * @return 판정 결과 (모든 한도를 통과해야 허용)
      */
-    public boolean allowRequest(String apiKey) {
-        String key = RATE_LIMIT_PREFIX + "apikey:" + apiKey;
-        boolean allowed = checkAndIncrement(key, API_KEY_LIMIT);
-
-        if (!allowed) {
-            log.warn("Rate limit exceeded for API key: {}...", apiKey.substring(0, Math.min(8, apiKey.length())));
+    public RateLimitDecision checkIngest(Map<String, Integer> eventsByApiKey, String ipAddress) {
+        List<Limit> limits = new ArrayList<>(eventsByApiKey.size() + 1);
+        int events = 0;
+        for (Map.Entry<String, Integer> entry : eventsByApiKey.entrySet()) {
+            limits.add(new Limit(RATE_LIMIT_PREFIX + "apikey:" + entry.getKey(), API_KEY_LIMIT, entry.getValue()));
+            events += entry.getValue();
         }
+        // 유효한 이벤트가 없는 요청도 IP 한도는 1 소모
+        limits.add(new Limit(RATE_LIMIT_PREFIX + "ip:" + ipAddress, IP_LIMIT, Math.max(1, events)));
 
-        return allowed;
+        RateLimitDecision decision = check(limits);
+        if (!decision.allowed()) {
+            log.warn("Rate limit exceeded: apiKeys={}, ip={}, events={}",
+                    eventsByApiKey.keySet().stream().map(this::maskApiKey).toList(), ipAddress, events);
+        }
+        return decision;
     }
 
     /**
-     * IP별 Rate Limit 확인 (API 키 없는 엔드포인트용)
-     * - 분당 20회 요청 제한
+     * 세션 리플레이 업로드 Rate Limit 확인
+     * - 에러 수집과 별도 한도를 사용하므로 큰 리플레이 업로드가 에러 수집 한도를 소모하지 않음
+     * - 청크 하나당 1회로 집계
      *
+     * @param apiKey    API 키
      * @param ipAddress IP 주소
-     * @return 요청 허용 여부
+     * @return 판정 결과
      */
-    public boolean allowRequestByIp(String ipAddress) {
-        String key = RATE_LIMIT_PREFIX + "ip:" + ipAddress;
-        boolean allowed = checkAndIncrement(key, IP_LIMIT);
-
-        if (!allowed) {
-            log.warn("Rate limit exceeded for IP: {}", ipAddress);
+    public RateLimitDecision checkReplayUpload(String apiKey, String ipAddress) {
+        RateLimitDecision decision = check(List.of(
+                new Limit(RATE_LIMIT_PREFIX + "replay:apikey:" + apiKey, REPLAY_API_KEY_LIMIT, 1),
+                new Limit(RATE_LIMIT_PREFIX + "replay:ip:" + ipAddress, REPLAY_IP_LIMIT, 1)
+        ));
+
+        if (!decision.allowed()) {
+            log.warn("Replay upload rate limit exceeded: apiKey={}, ip={}", maskApiKey(apiKey), ipAddress);
         }
-
-        return allowed;
+        return decision;
     }
 
     /**
-     * Redis를 사용한 Sliding Window Counter 구현
-     * <p>
-     * INCR 명령으로 카운터를 증가시키고, 첫 요청 시 TTL을 설정합니다.
-     * TTL이 만료되면 자동으로 카운터가 초기화됩니다.
-     * </p>
-     *
-     * @param key   Redis 키
-     * @param limit 요청 제한 수
-     * @return 요청 허용 여부
+     * 여러 한도를 GCRA 스크립트 한 번으로 확인
      */
-    private boolean checkAndIncrement(String key, int limit) {
-        try {
-            // INCR: 키가 없으면 0으로 초기화 후 1 증가
-            Long currentCount = redisTemplate.opsForValue().increment(key);
-
-            if (currentCount == null) {
-                log.error("Redis increment returned null for key: {}", key);
-                return true; // Redis 오류 시 요청 허용 (fail-open)
-            }
-
-            // 첫 요청이면 TTL 설정
-            if (currentCount == 1) {
-                redisTemplate.expire(key, WINDOW_DURATION.toSeconds(), TimeUnit.SECONDS);
-                log.debug("Rate limit window started for key: {}", key);
-            }
-
-            boolean allowed = currentCount <= limit;
+    private RateLimitDecision check(List<Limit> limits) {
+        List<String> keys = new ArrayList<>(limits.size());
+        Object[] args = new Object[limits.size() * 3];
+        for (int i = 0; i < limits.size(); i++) {
+            Limit limit = limits.get(i);
+            keys.add(limit.key());
+            args[i * 3] = String.valueOf(limit.limit());
+            args[i * 3 + 1] = String.valueOf(WINDOW_DURATION.toMillis());
+            args[i * 3 + 2] = String.valueOf(limit.cost());
+        }
 
-            if (log.isDebugEnabled()) {
-                Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-                log.debug("Rate limit check: key={}, count={}/{}, ttl={}s, allowed={}",
-                        key, currentCount, limit, ttl, allowed);
+        try {
+            List<?> result = stringRedisTemplate.execute(GCRA_SCRIPT, keys, args);
+            if (result == null || result.size() < 5) {
+                log.error("Rate limit script returned unexpected result for keys: {}", keys);
+                return RateLimitDecision.FAIL_OPEN;
             }
 
-            return allowed;
+            RateLimitDecision decision = new RateLimitDecision(
+                    toLong(result.get(0)) == 1,
+                    toLong(result.get(1)),
+                    toLong(result.get(2)),
+                    toLong(result.get(3)),
+                    toLong(result.get(4))
+            );
+            log.debug("Rate limit check: keys={}, decision={}", keys, decision);
+            return decision;
 
         } catch (Exception e) {
-            log.error("Redis rate limit check failed for key: {}", key, e);
-            return true; // Redis 오류 시 요청 허용 (fail-open 정책)
-        }
-    }
-
-    /**
-     * 현재 요청 카운트 조회 (모니터링/디버깅용)
-     *
-     * @param apiKey API 키
-     * @return 현재 요청 카운트 (키가 없으면 0)
-     */
-    public long getCurrentCount(String apiKey) {
-        String key = RATE_LIMIT_PREFIX + "apikey:" + apiKey;
-        Object value = redisTemplate.opsForValue().get(key);
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
+            log.error("Redis rate limit check failed for keys: {}", keys, e);
+            return RateLimitDecision.FAIL_OPEN; // Redis 오류 시 요청 허용 (fail-open 정책)
         }
-        return 0;
-    }
-
-    /**
-     * 남은 요청 수 조회
-     *
-     * @param apiKey API 키
-     * @return 남은 요청 수
-     */
-    public long getRemainingRequests(String apiKey) {
-        long currentCount = getCurrentCount(apiKey);
-        return Math.max(0, API_KEY_LIMIT - currentCount);
     }
 
     /**
@@ -151,7 +147,7 @@ public class RateLimitService {
      */
     public void reset(String key) {
         String fullKey = key.startsWith(RATE_LIMIT_PREFIX) ? key : RATE_LIMIT_PREFIX + key;
-        redisTemplate.delete(fullKey);
+        stringRedisTemplate.delete(fullKey);
         log.info("Rate limit reset for key: {}", fullKey);
     }
 
@@ -172,4 +168,15 @@ public class RateLimitService {
     public void resetIp(String ipAddress) {
         reset("ip:" + ipAddress);
     }
+
+    private String maskApiKey(String apiKey) {
+        return apiKey.substring(0, Math.min(8, apiKey.length())) + "...";
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private record Limit(String key, int limit, int cost) {
+    }
 }
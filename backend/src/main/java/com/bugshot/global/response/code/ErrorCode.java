@@ -20,11 +20,14 @@ public enum ErrorCode implements BaseCode {
     NOT_FOUND(404, "COMMON_404", "요청한 리소스를 찾을 수 없습니다"),
     METHOD_NOT_ALLOWED(405, "COMMON_405", "지원하지 않는 HTTP 메서드입니다"),
     CONFLICT(409, "COMMON_409", "이미 존재하는 리소스입니다"),
+    PAYLOAD_TOO_LARGE(413, "COMMON_413", "요청 크기가 허용 범위를 초과했습니다"),
+    UNSUPPORTED_MEDIA_TYPE(415, "COMMON_415", "지원하지 않는 콘텐츠 형식입니다"),
     RATE_LIMIT_EXCEEDED(429, "COMMON_429", "요청 횟수를 초과했습니다"),
 
     // ========== 공통 에러 (5xx) ==========
     INTERNAL_SERVER_ERROR(500, "COMMON_500", "서버 내부 오류가 발생했습니다"),
     DATABASE_ERROR(500, "COMMON_500", "데이터베이스 오류가 발생했습니다"),
+    SERVICE_UNAVAILABLE(503, "COMMON_503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
 
     // ========== 인증/사용자 관련 ==========
     USER_NOT_FOUND(404, "USER_404", "사용자를 찾을 수 없습니다"),
@@ -0,0 +1,58 @@
+-- GCRA (Generic Cell Rate Algorithm) 다중 키 Rate Limit
+--
+-- KEYS[i]        : 제한 키 (값: 이론적 도착 시각 TAT, epoch ms)
+-- ARGV[3i - 2]   : 기간 내 허용 요청 수 (버스트 크기)
+-- ARGV[3i - 1]   : 기간 (ms)
+-- ARGV[3i]       : 이번 요청이 소모하는 칸 수 (배치 이벤트 수 등)
+--
+-- 모든 키가 허용할 때만 모든 키의 TAT를 갱신 (하나라도 거부되면 어떤 한도도 소모하지 않음)
+-- new_tat = max(tat, now) + cost * interval, new_tat - now <= 버스트 * interval(= 기간)이면 허용
+-- cost가 버스트보다 크면 기다려도 허용되지 않음 (호출 측이 요청을 나눠야 함)
+-- 시각은 Redis TIME 기준 (서버 간 시계 차이 무시)
+--
+-- 반환: { allowed(1/0), limit, remaining, reset_after_ms, retry_after_ms }
+--   허용: 남은 요청 수가 가장 적은 키 기준 (이번 cost를 소모한 뒤의 남은 칸 수)
+--   거부: 가장 오래 기다려야 하는 키 기준
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local new_tats = {}
+local allowed = 1
+local report_limit, report_remaining, report_reset, report_retry = 0, -1, 0, 0
+
+for i, key in ipairs(KEYS) do
+  local limit = tonumber(ARGV[3 * i - 2])
+  local period = tonumber(ARGV[3 * i - 1])
+  local cost = tonumber(ARGV[3 * i])
+  local interval = period / limit
+
+  local tat = tonumber(redis.call('GET', key)) or now
+  if tat < now then
+    tat = now
+  end
+  local new_tat = tat + cost * interval
+  local allow_at = new_tat - period
+
+  if now < allow_at then
+    local retry = math.ceil(allow_at - now)
+    if allowed == 1 or retry > report_retry then
+      report_limit, report_remaining, report_reset, report_retry = limit, 0, math.ceil(tat - now), retry
+    end
+    allowed = 0
+  elseif allowed == 1 then
+    local remaining = math.floor((now - allow_at) / interval)
+    if report_remaining < 0 or remaining < report_remaining then
+      report_limit, report_remaining, report_reset = limit, remaining, math.ceil(new_tat - now)
+    end
+  end
+  new_tats[i] = new_tat
+end
+
+if allowed == 1 then
+  for i, key in ipairs(KEYS) do
+    redis.call('SET', key, string.format('%d', math.ceil(new_tats[i])), 'PX', math.ceil(new_tats[i] - now))
+  end
+end
+
+return { allowed, report_limit, report_remaining, report_reset, report_retry }
@@ -0,0 +1,217 @@
+package com.bugshot.domain.error.pipeline;
+
+import com.bugshot.domain.auth.entity.User;
+import com.bugshot.domain.auth.repository.UserRepository;
+import com.bugshot.domain.error.entity.Error;
+import com.bugshot.domain.error.entity.ErrorOccurrence;
+import com.bugshot.domain.error.repository.ErrorOccurrenceRepository;
+import com.bugshot.domain.error.repository.ErrorRepository;
+import com.bugshot.domain.error.service.AffectedUserSketches;
+import com.bugshot.domain.priority.service.PriorityRuleCache;
+import com.bugshot.domain.priority.service.PriorityRuleSet;
+import com.bugshot.domain.project.entity.Project;
+import com.bugshot.domain.project.repository.ProjectRepository;
+import com.bugshot.global.config.AsyncConfig;
+import com.bugshot.global.jpa.QueryCountInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 후속 작업 파이프라인의 로드/우선순위 단계 SQL 수가 배치 크기와 무관한지 확인
+ * <p>
+ * 단계마다 엔티티를 다시 조회하거나 그룹마다 UPDATE를 보내면 배치가 커질수록 SQL 수가 늘어납니다.
+ * QueryCountInspector가 측정한 bugshot.ingest.pipeline.queries 값을 작은 배치와 큰 배치에서 비교합니다.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:pipeline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostIngestPipeline.class, PriorityStage.class, PostIngestPipelineQueryCountTest.StageConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostIngestPipelineQueryCountTest {
+
+    private static final int SMALL_BATCH = 5;
+    private static final int LARGE_BATCH = 50;
+
+    @Autowired
+    private PostIngestPipeline pipeline;
+
+    @Autowired
+    private PriorityStage priorityStage;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ErrorRepository errorRepository;
+
+    @Autowired
+    private ErrorOccurrenceRepository occurrenceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private AffectedUserSketches affectedUserSketches;
+
+    @MockitoBean
+    private PriorityRuleCache priorityRuleCache;
+
+    @MockitoBean
+    private SessionReplayStage sessionReplayStage;
+
+    @MockitoBean
+    private NotificationStage notificationStage;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        given(priorityRuleCache.get(anyString())).willReturn(PriorityRuleSet.DEFAULT);
+        given(affectedUserSketches.countProjects(anyCollection())).willAnswer(invocation -> {
+            Collection<String> projectIds = invocation.getArgument(0);
+            return projectIds.stream().collect(Collectors.toMap(Function.identity(), projectId -> 1L));
+        });
+
+        String suffix = UUID.randomUUID().toString();
+        User user = userRepository.save(User.builder()
+                .email(suffix + "@bugshot.test")
+                .name("tester")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .user(user)
+                .name("project-" + suffix)
+                .build());
+
+        // 다른 테스트가 남긴 dirty 그룹 비우기
+        priorityStage.drain();
+    }
+
+    @Test
+    @DisplayName("새 그룹 배치: 바로 계산해도 쿼리 수는 배치 크기와 무관")
+    void newGroupsUseConstantQueries() throws Exception {
+        long small = processQueries(snapshots(SMALL_BATCH, BigDecimal.ZERO));
+        long large = processQueries(snapshots(LARGE_BATCH, BigDecimal.ZERO));
+
+        assertThat(large).isEqualTo(small);
+        assertThat(errorRepository.findAll())
+                .allSatisfy(error -> assertThat(error.getPriorityScore()).isPositive());
+    }
+
+    @Test
+    @DisplayName("계산된 그룹 배치: dirty 표시만 하므로 쿼리 수는 배치 크기와 무관")
+    void scoredGroupsUseConstantQueries() throws Exception {
+        long small = processQueries(snapshots(SMALL_BATCH, BigDecimal.TEN));
+        long large = processQueries(snapshots(LARGE_BATCH, BigDecimal.TEN));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("주기적 재계산: 쿼리 수는 dirty 그룹 수와 무관")
+    void drainUsesConstantQueries() throws Exception {
+        processQueries(snapshots(SMALL_BATCH, BigDecimal.TEN));
+        int small = drainQueries();
+
+        processQueries(snapshots(LARGE_BATCH, BigDecimal.TEN));
+        int large = drainQueries();
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long processQueries(List<PostIngestSnapshot> snapshots) throws InterruptedException {
+        double before = queriesTotal();
+        pipeline.process(snapshots, System.nanoTime() + TimeUnit.SECONDS.toNanos(5));
+        return Math.round(queriesTotal() - before);
+    }
+
+    private int drainQueries() {
+        QueryCountInspector.start();
+        priorityStage.drain();
+        return QueryCountInspector.stop();
+    }
+
+    private double queriesTotal() {
+        return meterRegistry.get("bugshot.ingest.pipeline.queries").summary().totalAmount();
+    }
+
+    /**
+     * 에러 그룹마다 발생 하나씩 저장하고 스냅샷 생성
+     */
+    private List<PostIngestSnapshot> snapshots(int size, BigDecimal priorityScore) {
+        List<PostIngestSnapshot> snapshots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Error error = errorRepository.save(Error.builder()
+                    .project(project)
+                    .errorType("TestError" + UUID.randomUUID())
+                    .errorMessage("failure " + i)
+                    .priorityScore(priorityScore)
+                    .build());
+            ErrorOccurrence occurrence = occurrenceRepository.save(ErrorOccurrence.builder()
+                    .error(error)
+                    .url("https://app.bugshot.test/checkout/" + i)
+                    .userIdentifier("user-" + i)
+                    .build());
+            snapshots.add(new PostIngestSnapshot(UUID.randomUUID().toString(), project.getId(), error.getId(),
+                    occurrence.getId(), occurrence.getUrl(), false, null, 0));
+        }
+        return snapshots;
+    }
+
+    @TestConfiguration
+    static class StageConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean(AsyncConfig.REPLAY_EXECUTOR)
+        Executor replayExecutor() {
+            return Runnable::run;
+        }
+
+        @Bean(AsyncConfig.NOTIFICATION_EXECUTOR)
+        Executor notificationExecutor() {
+            return Runnable::run;
+        }
+    }
+}
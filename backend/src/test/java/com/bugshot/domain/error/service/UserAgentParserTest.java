@@ -0,0 +1,65 @@
+package com.bugshot.domain.error.service;
+
+import com.bugshot.domain.error.service.UserAgentParser.UserAgentInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User-Agent 파싱 결과 확인 (실제 트래픽에서 자주 보이는 UA 샘플)
+ */
+class UserAgentParserTest {
+
+    @ParameterizedTest(name = "{1} / {2} / {3}")
+    @CsvSource(delimiter = '|', textBlock = """
+            Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 | Chrome 120 | Windows 10 | desktop
+            Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.2210.91 | Edge 120 | Windows 10 | desktop
+            Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Whale/3.24.223.21 Safari/537.36 | Whale 3 | Windows 10 | desktop
+            Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Safari/605.1.15 | Safari 17 | macOS 10.15 | desktop
+            Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Mobile/15E148 Safari/604.1 | Safari 17 | iOS 17 | mobile
+            Mozilla/5.0 (iPad; CPU OS 16_6 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) CriOS/119.0.6045.169 Mobile/15E148 Safari/604.1 | Chrome 119 | iOS 16 | tablet
+            Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 (KHTML, like Gecko) SamsungBrowser/23.0 Chrome/115.0.0.0 Mobile Safari/537.36 | Samsung Internet 23 | Android 14 | mobile
+            Mozilla/5.0 (Linux; Android 13; SM-X710) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 | Chrome 120 | Android 13 | tablet
+            Mozilla/5.0 (Linux; Android 14; SM-S918N Build/UP1A.231005.007; wv) AppleWebKit/537.36 (KHTML, like Gecko) Version/4.0 Chrome/120.0.6099.144 Mobile Safari/537.36 KAKAOTALK 10.4.5 | KakaoTalk 10 | Android 14 | mobile
+            Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Mobile/15E148 NAVER(inapp; search; 2000; 12.1.0) | Naver | iOS 17 | mobile
+            Mozilla/5.0 (X11; Linux x86_64; rv:121.0) Gecko/20100101 Firefox/121.0 | Firefox 121 | Linux | desktop
+            Mozilla/5.0 (X11; CrOS x86_64 14541.0.0) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 | Chrome 120 | ChromeOS | desktop
+            Mozilla/5.0 (Windows NT 6.1; Trident/7.0; rv:11.0) like Gecko | IE 11 | Windows 7 | desktop
+            Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html) | Bot | | bot
+            okhttp/4.12.0 | OkHttp 4 | |
+            Java/21.0.1 | Java 21 | |
+            curl/8.4.0 | curl 8 | |
+            PostmanRuntime/7.36.0 | Postman 7 | |
+            """)
+    @DisplayName("브라우저 / OS / 기기 파싱")
+    void parsesSamples(String userAgent, String browser, String os, String device) {
+        assertThat(UserAgentParser.parseUncached(userAgent)).isEqualTo(new UserAgentInfo(browser, os, device));
+    }
+
+    @Test
+    @DisplayName("비어 있거나 비활성화면 UNKNOWN")
+    void blankOrDisabledIsUnknown() {
+        UserAgentParser parser = new UserAgentParser(new SimpleMeterRegistry(), true, 100);
+        UserAgentParser disabled = new UserAgentParser(new SimpleMeterRegistry(), false, 100);
+
+        assertThat(parser.parse(null)).isSameAs(UserAgentInfo.UNKNOWN);
+        assertThat(parser.parse(" ")).isSameAs(UserAgentInfo.UNKNOWN);
+        assertThat(disabled.parse("curl/8.4.0")).isSameAs(UserAgentInfo.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("앞 MAX_USER_AGENT_LENGTH자가 같으면 캐시된 결과 사용")
+    void cachesByTruncatedUserAgent() {
+        UserAgentParser parser = new UserAgentParser(new SimpleMeterRegistry(), true, 100);
+        String prefix = "Mozilla/5.0 (X11; Linux x86_64; rv:121.0) Gecko/20100101 Firefox/121.0 "
+                + "x".repeat(UserAgentParser.MAX_USER_AGENT_LENGTH);
+
+        UserAgentInfo first = parser.parse(prefix + "a");
+        assertThat(parser.parse(prefix + "b")).isSameAs(first);
+        assertThat(first).isEqualTo(new UserAgentInfo("Firefox 121", "Linux", "desktop"));
+    }
+}
@@ -19,6 +19,8 @@ import { FilterSelect } from "@/components/ui/select";
 import { toast } from "sonner";
 import type { ErrorResponse } from "@/types/api";
 
+const RECALCULATION_POLL_INTERVAL_MS = 1000;
+
 interface ErrorFilters {
   severity: string;
   status: string;
@@ -105,8 +107,16 @@ export default function ErrorsPage() {
   const handleRecalculate = async () => {
     try {
       setRecalculating(true);
-      const result = await api.recalculatePriorities();
-      toast.success(`우선순위 재계산 완료! ${result.updatedCount}개 에러 업데이트`);
+      let job = await api.recalculatePriorities();
+      while (job.status === "RUNNING") {
+        await new Promise((resolve) => setTimeout(resolve, RECALCULATION_POLL_INTERVAL_MS));
+        job = await api.getPriorityRecalculation(job.jobId);
+      }
+      if (job.status === "COMPLETED") {
+        toast.success(`우선순위 재계산 완료! ${job.updatedCount}개 에러 업데이트`);
+      } else {
+        toast.error(`우선순위 재계산이 중단되었습니다. (${job.updatedCount}개 완료, 다시 실행하면 이어서 진행)`);
+      }
       loadErrors();
     } catch (error) {
       console.error("Failed to recalculate priorities:", error);
@@ -249,13 +249,40 @@ class ApiClient {
     });
   }
 
-  // Recalculate Priorities API
-  async recalculatePriorities(): Promise<{ updatedCount: number; message: string }> {
-    return this.request<{ updatedCount: number; message: string }>({
+  // Recalculate Priorities API (백그라운드 작업 - 상태 조회로 진행률 확인)
+  async recalculatePriorities(): Promise<PriorityRecalculationJob> {
+    return this.request<PriorityRecalculationJob>({
       method: 'POST',
       url: '/api/errors/recalculate-priorities',
     });
   }
+
+  async getPriorityRecalculation(jobId: string): Promise<PriorityRecalculationJob> {
+    return this.request<PriorityRecalculationJob>({
+      method: 'GET',
+      url: `/api/errors/recalculate-priorities/${jobId}`,
+    });
+  }
+
+  async cancelPriorityRecalculation(jobId: string): Promise<PriorityRecalculationJob> {
+    return this.request<PriorityRecalculationJob>({
+      method: 'DELETE',
+      url: `/api/errors/recalculate-priorities/${jobId}`,
+    });
+  }
+}
+
+// Priority Recalculation Job Type
+export interface PriorityRecalculationJob {
+  jobId: string;
+  status: 'RUNNING' | 'COMPLETED' | 'CANCELLED' | 'FAILED';
+  updatedCount: number;
+  totalProjects: number;
+  completedProjects: number;
+  cancelRequested: boolean;
+  failureMessage: string | null;
+  startedAt: string;
+  finishedAt: string | null;
 }
 
 // Usage Stats Response Type
@@ -0,0 +1,103 @@
+package com.bugshot;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CBOR (RFC 8949) 인코더 - 외부 의존성 없이 에러 페이로드를 바이너리로 직렬화
+ *
+ * 맵은 길이 미지정(indefinite-length) 형식으로 써서 항목 수를 미리 셀 필요가 없습니다.
+ */
+final class CborWriter {
+
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_TEXT = 3;
+
+    private static final int START_INDEFINITE_MAP = 0xBF;
+    private static final int BREAK = 0xFF;
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    private static final int FLOAT64 = 0xFB;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+
+    CborWriter startMap() {
+        out.write(START_INDEFINITE_MAP);
+        return this;
+    }
+
+    CborWriter endMap() {
+        out.write(BREAK);
+        return this;
+    }
+
+    CborWriter key(String name) {
+        return text(name);
+    }
+
+    CborWriter field(String name, Object value) {
+        return key(name).value(value);
+    }
+
+    CborWriter value(Object value) {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            integer(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            out.write(FLOAT64);
+            writeBigEndian(Double.doubleToLongBits(((Number) value).doubleValue()), 8);
+        } else {
+            text(String.valueOf(value));
+        }
+        return this;
+    }
+
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private CborWriter text(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        header(MAJOR_TEXT, bytes.length);
+        out.write(bytes, 0, bytes.length);
+        return this;
+    }
+
+    private void integer(long value) {
+        if (value >= 0) {
+            header(MAJOR_UNSIGNED, value);
+        } else {
+            header(MAJOR_NEGATIVE, -1 - value);
+        }
+    }
+
+    private void header(int majorType, long length) {
+        int major = majorType << 5;
+        if (length < 24) {
+            out.write(major | (int) length);
+        } else if (length < 0x100) {
+            out.write(major | 24);
+            writeBigEndian(length, 1);
+        } else if (length < 0x10000) {
+            out.write(major | 25);
+            writeBigEndian(length, 2);
+        } else if (length < 0x100000000L) {
+            out.write(major | 26);
+            writeBigEndian(length, 4);
+        } else {
+            out.write(major | 27);
+            writeBigEndian(length, 8);
+        }
+    }
+
+    private void writeBigEndian(long value, int bytes) {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift) & 0xFF);
+        }
+    }
+}
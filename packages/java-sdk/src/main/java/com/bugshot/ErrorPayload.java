@@ -29,6 +29,21 @@ public class ErrorPayload {
         return json.toString();
     }
 
+    /**
+     * CBOR 직렬화 (toJson과 같은 필드 구성)
+     */
+    public byte[] toCbor() {
+        CborWriter cbor = new CborWriter();
+        cbor.startMap();
+        cbor.field("apiKey", apiKey != null ? apiKey : "");
+        cbor.key("error");
+        error.writeCbor(cbor);
+        cbor.key("context");
+        context.writeCbor(cbor);
+        cbor.endMap();
+        return cbor.toByteArray();
+    }
+
     private String escapeJson(String value) {
         if (value == null) return "";
         return value
@@ -92,6 +107,23 @@ public class ErrorPayload {
             return json.toString();
         }
 
+        void writeCbor(CborWriter cbor) {
+            cbor.startMap();
+            cbor.field("type", type != null ? type : "");
+            cbor.field("message", message != null ? message : "");
+            cbor.field("stackTrace", stackTrace != null ? stackTrace : "");
+            if (filePath != null) {
+                cbor.field("filePath", filePath);
+            }
+            if (lineNumber != null) {
+                cbor.field("lineNumber", lineNumber);
+            }
+            if (methodName != null) {
+                cbor.field("methodName", methodName);
+            }
+            cbor.endMap();
+        }
+
         private String escapeJson(String value) {
             if (value == null) return "";
             return value
@@ -149,6 +181,22 @@ public class ErrorPayload {
             return json.toString();
         }
 
+        void writeCbor(CborWriter cbor) {
+            cbor.startMap();
+            cbor.field("timestamp", timestamp);
+            cbor.field("platform", platform);
+            cbor.field("javaVersion", javaVersion != null ? javaVersion : "");
+            cbor.field("osName", osName != null ? osName : "");
+            cbor.field("osVersion", osVersion != null ? osVersion : "");
+
+            // Add additional info
+            for (Map.Entry<String, Object> entry : additional.entrySet()) {
+                cbor.field(entry.getKey() != null ? entry.getKey() : "", entry.getValue());
+            }
+
+            cbor.endMap();
+        }
+
         private String escapeJson(String value) {
             if (value == null) return "";
             return value
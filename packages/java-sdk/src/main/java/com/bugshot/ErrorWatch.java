@@ -41,7 +41,7 @@ public final class Bugshot {
 
     private Bugshot(BugshotConfig config) {
         this.config = config;
-        this.transport = new HttpTransport(config.getEndpoint(), config.isDebug());
+        this.transport = new HttpTransport(config.getEndpoint(), config.isDebug(), config.isUseCbor());
         this.userInfo = new HashMap<>();
         this.globalContext = new HashMap<>();
     }
@@ -13,6 +13,7 @@ public class BugshotConfig {
     private boolean debug = false;
     private boolean enableAutoCapture = true;
     private double sampleRate = 1.0;
+    private boolean useCbor = false;
 
     private BugshotConfig(Builder builder) {
         this.apiKey = builder.apiKey;
@@ -22,6 +23,7 @@ public class BugshotConfig {
         this.debug = builder.debug;
         this.enableAutoCapture = builder.enableAutoCapture;
         this.sampleRate = builder.sampleRate;
+        this.useCbor = builder.useCbor;
     }
 
     // Getters
@@ -32,6 +34,7 @@ public class BugshotConfig {
     public boolean isDebug() { return debug; }
     public boolean isEnableAutoCapture() { return enableAutoCapture; }
     public double getSampleRate() { return sampleRate; }
+    public boolean isUseCbor() { return useCbor; }
 
     /**
      * Builder Pattern for configuration
@@ -44,6 +47,7 @@ public class BugshotConfig {
         private boolean debug = false;
         private boolean enableAutoCapture = true;
         private double sampleRate = 1.0;
+        private boolean useCbor = false;
 
         public Builder(String apiKey) {
             if (apiKey == null || apiKey.isBlank()) {
@@ -85,6 +89,14 @@ public class BugshotConfig {
             return this;
         }
 
+        /**
+         * 에러를 JSON 대신 CBOR(application/cbor)로 전송
+         */
+        public Builder useCbor(boolean useCbor) {
+            this.useCbor = useCbor;
+            return this;
+        }
+
         public BugshotConfig build() {
             return new BugshotConfig(this);
         }
@@ -17,11 +17,20 @@ public class HttpTransport {
     private final HttpClient httpClient;
     private final String endpoint;
     private final boolean debug;
+    private final boolean useCbor;
     private final ExecutorService executor;
 
     public HttpTransport(String endpoint, boolean debug) {
+        this(endpoint, debug, false);
+    }
+
+    /**
+     * @param useCbor true면 application/cbor로 전송 (JSON보다 작고 서버 파싱 비용이 낮음)
+     */
+    public HttpTransport(String endpoint, boolean debug, boolean useCbor) {
         this.endpoint = endpoint;
         this.debug = debug;
+        this.useCbor = useCbor;
         this.executor = Executors.newSingleThreadExecutor(r -> {
             Thread t = new Thread(r, "Bugshot-Transport");
             t.setDaemon(true);
@@ -38,18 +47,31 @@ public class HttpTransport {
      */
     public CompletableFuture<Boolean> sendAsync(ErrorPayload payload) {
         String url = endpoint + "/api/ingest";
-        String json = payload.toJson();
-
-        if (debug) {
-            System.out.println("[Bugshot] Sending error to: " + url);
-            System.out.println("[Bugshot] Payload: " + json);
+        HttpRequest.BodyPublisher body;
+        String contentType;
+        if (useCbor) {
+            byte[] cbor = payload.toCbor();
+            body = HttpRequest.BodyPublishers.ofByteArray(cbor);
+            contentType = "application/cbor";
+            if (debug) {
+                System.out.println("[Bugshot] Sending error to: " + url);
+                System.out.println("[Bugshot] Payload: CBOR, " + cbor.length + " bytes");
+            }
+        } else {
+            String json = payload.toJson();
+            body = HttpRequest.BodyPublishers.ofString(json);
+            contentType = "application/json";
+            if (debug) {
+                System.out.println("[Bugshot] Sending error to: " + url);
+                System.out.println("[Bugshot] Payload: " + json);
+            }
         }
 
         HttpRequest request = HttpRequest.newBuilder()
             .uri(URI.create(url))
-            .header("Content-Type", "application/json")
+            .header("Content-Type", contentType)
             .header("Accept", "application/json")
-            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .POST(body)
             .timeout(Duration.ofSeconds(30))
             .build();
 
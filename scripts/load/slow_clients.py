@@ -0,0 +1,163 @@
+#!/usr/bin/env python3
+"""
+느린 클라이언트가 많을 때의 수집 처리량 측정 (표준 라이브러리만 사용)
+
+느린 SDK 클라이언트(모바일 회선 등)는 POST /api/ingest 본문을 조금씩 보내며 연결을 오래 붙잡습니다.
+플랫폼 스레드 모드에서는 이런 연결마다 Tomcat 스레드가 본문 읽기에 묶이고, 가상 스레드 모드
+(VIRTUAL_THREADS_ENABLED=true)에서는 캐리어 스레드를 놓아줍니다.
+느린 연결 N개를 유지한 채로 빠른 클라이언트 M개가 보내는 수집 요청의 처리량/지연을 잽니다.
+
+사용법:
+  # 같은 서버를 두 모드로 띄워 각각 실행한 뒤 결과 비교
+  VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun   (또는 true)
+  python3 scripts/load/slow_clients.py --url http://localhost:8080 \\
+      --api-key <키1> --api-key <키2> --slow 400 --fast 20 --duration 60
+
+- 느린 클라이언트: Content-Length만큼 보내기로 하고 --trickle-interval초마다 --trickle-bytes바이트씩 전송
+- 빠른 클라이언트: 작은 이벤트를 연결마다 한 번씩 연속 전송 (Connection: close)
+- 요청마다 X-Forwarded-For를 다르게 보내 IP 한도를 피하고, API 키는 --api-key를 돌려가며 사용
+  (키 한도 분당 이벤트 100개 - 429도 서버가 처리한 응답이므로 처리량에 포함하고 상태별로 따로 출력)
+- 비교할 값: 빠른 클라이언트 처리량(req/s)과 p50/p95/p99 지연, 느린 연결 중 끝까지 유지된 수
+"""
+
+import argparse
+import asyncio
+import itertools
+import json
+import random
+import time
+import uuid
+from collections import Counter
+from urllib.parse import urlparse
+
+
+def event_body(api_key):
+    return json.dumps({
+        "apiKey": api_key,
+        "eventId": str(uuid.uuid4()),
+        "error": {
+            "type": "TypeError",
+            "message": "Cannot read properties of undefined (reading 'id')",
+            "stackTrace": "TypeError: Cannot read properties of undefined\n    at handler (app.js:10:5)",
+            "file": "app.js",
+            "line": 10,
+        },
+        "context": {
+            "url": "https://app.example.com/load-test",
+            "userAgent": "slow-clients-load-test",
+            "userId": "user-%d" % random.randrange(1000),
+        },
+    }).encode()
+
+
+def request_head(host, path, length, forwarded_for):
+    return (
+        "POST %s HTTP/1.1\r\n"
+        "Host: %s\r\n"
+        "Content-Type: application/json\r\n"
+        "Content-Length: %d\r\n"
+        "X-Forwarded-For: %s\r\n"
+        "Connection: close\r\n\r\n" % (path, host, length, forwarded_for)
+    ).encode()
+
+
+def random_ip():
+    return "10.%d.%d.%d" % (random.randrange(256), random.randrange(256), random.randrange(1, 255))
+
+
+async def read_status(reader):
+    line = await reader.readline()
+    parts = line.split()
+    return int(parts[1]) if len(parts) > 1 else 0
+
+
+async def slow_client(target, keys, args, deadline, stats):
+    body = event_body(next(keys))
+    try:
+        reader, writer = await asyncio.open_connection(target.hostname, target.port or 80)
+    except OSError:
+        stats["slow_connect_failed"] += 1
+        return
+    try:
+        writer.write(request_head(target.netloc, "/api/ingest", len(body), random_ip()))
+        sent = 0
+        # 마지막 바이트는 기한이 끝날 때까지 보내지 않아 연결을 유지
+        while time.monotonic() < deadline and sent < len(body) - 1:
+            chunk = body[sent:min(sent + args.trickle_bytes, len(body) - 1)]
+            writer.write(chunk)
+            await writer.drain()
+            sent += len(chunk)
+            await asyncio.sleep(args.trickle_interval)
+        while time.monotonic() < deadline:
+            await asyncio.sleep(min(1.0, deadline - time.monotonic()))
+        writer.write(body[sent:])
+        await writer.drain()
+        stats["slow_held"] += 1
+        stats["slow_status_%d" % await read_status(reader)] += 1
+    except (OSError, asyncio.IncompleteReadError):
+        stats["slow_dropped"] += 1
+    finally:
+        writer.close()
+
+
+async def fast_client(target, keys, deadline, latencies, stats):
+    while time.monotonic() < deadline:
+        body = event_body(next(keys))
+        started = time.monotonic()
+        try:
+            reader, writer = await asyncio.open_connection(target.hostname, target.port or 80)
+            writer.write(request_head(target.netloc, "/api/ingest", len(body), random_ip()) + body)
+            await writer.drain()
+            status = await read_status(reader)
+            writer.close()
+        except OSError:
+            stats["fast_error"] += 1
+            await asyncio.sleep(0.1)
+            continue
+        latencies.append(time.monotonic() - started)
+        stats["fast_status_%d" % status] += 1
+
+
+def percentile(values, p):
+    if not values:
+        return float("nan")
+    ordered = sorted(values)
+    return ordered[min(len(ordered) - 1, int(len(ordered) * p / 100))]
+
+
+async def main():
+    parser = argparse.ArgumentParser(description="Ingest throughput under many concurrent slow clients")
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--api-key", action="append", required=True, help="repeat to spread the per-key limit")
+    parser.add_argument("--slow", type=int, default=400, help="concurrent slow connections")
+    parser.add_argument("--fast", type=int, default=20, help="concurrent fast clients")
+    parser.add_argument("--duration", type=float, default=60, help="seconds")
+    parser.add_argument("--trickle-interval", type=float, default=1.0, help="seconds between slow body chunks")
+    parser.add_argument("--trickle-bytes", type=int, default=16, help="bytes per slow body chunk")
+    args = parser.parse_args()
+
+    target = urlparse(args.url)
+    keys = itertools.cycle(args.api_key)
+    stats = Counter()
+    latencies = []
+
+    # 느린 연결을 먼저 채운 뒤 측정 시작
+    deadline = time.monotonic() + args.duration + 5
+    slow = [asyncio.create_task(slow_client(target, keys, args, deadline, stats)) for _ in range(args.slow)]
+    await asyncio.sleep(5)
+
+    started = time.monotonic()
+    fast_deadline = started + args.duration
+    await asyncio.gather(*(fast_client(target, keys, fast_deadline, latencies, stats) for _ in range(args.fast)))
+    elapsed = time.monotonic() - started
+    await asyncio.gather(*slow)
+
+    print("fast requests: %d in %.1fs (%.1f req/s)" % (len(latencies), elapsed, len(latencies) / elapsed))
+    print("fast latency ms: p50=%.1f p95=%.1f p99=%.1f" % tuple(
+        percentile(latencies, p) * 1000 for p in (50, 95, 99)))
+    for key, value in sorted(stats.items()):
+        print("%s: %d" % (key, value))
+
+
+if __name__ == "__main__":
+    asyncio.run(main())